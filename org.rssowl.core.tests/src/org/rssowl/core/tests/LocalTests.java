@@ -47,6 +47,11 @@ import org.rssowl.core.tests.persist.LabelTest;
 import org.rssowl.core.tests.persist.LongArrayListTest;
 import org.rssowl.core.tests.persist.MigrationsTest;
 import org.rssowl.core.tests.persist.service.DefragmentTest;
+import org.rssowl.core.tests.persist.service.EventDispatcherTest;
+import org.rssowl.core.tests.util.GroupCommitQueueTest;
+import org.rssowl.core.tests.util.LongHashMapTest;
+import org.rssowl.core.tests.util.LongHashSetTest;
+import org.rssowl.core.tests.util.PriorityTaskQueueTest;
 import org.rssowl.core.tests.util.MergeUtilsTest;
 import org.rssowl.core.tests.util.StringUtilsTest;
 
@@ -79,6 +84,11 @@ import org.rssowl.core.tests.util.StringUtilsTest;
   DefragmentTest.class,
   MigrationsTest.class,
   LongArrayListTest.class,
+  LongHashMapTest.class,
+  LongHashSetTest.class,
+  PriorityTaskQueueTest.class,
+  EventDispatcherTest.class,
+  GroupCommitQueueTest.class,
   LabelTest.class
 })
 public class LocalTests {}
\ No newline at end of file
@@ -27,6 +27,7 @@ package org.rssowl.core.tests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
+import org.rssowl.core.tests.performance.HighlightingPerformanceTest;
 import org.rssowl.core.tests.performance.PerformanceTest;
 
 /**
@@ -36,5 +37,5 @@ import org.rssowl.core.tests.performance.PerformanceTest;
  */
 
 @RunWith(Suite.class)
-@SuiteClasses( { PerformanceTest.class })
+@SuiteClasses( { PerformanceTest.class, HighlightingPerformanceTest.class })
 public class PerformanceTests {}
\ No newline at end of file
@@ -37,15 +37,18 @@ import org.rssowl.core.tests.ui.LabelContentProviderTest;
 import org.rssowl.core.tests.ui.LabelsLabelProviderTest;
 import org.rssowl.core.tests.ui.MiscUITests;
 import org.rssowl.core.tests.ui.ModelUtilsTest;
+import org.rssowl.core.tests.ui.NewsBrowserLabelProviderTest;
 import org.rssowl.core.tests.ui.NewsComparatorTest;
 import org.rssowl.core.tests.ui.NewsGroupFilterTest;
 import org.rssowl.core.tests.ui.RateActionTest;
 import org.rssowl.core.tests.ui.ReadPercentageChartTest;
 import org.rssowl.core.tests.ui.RetentionStrategyTests;
+import org.rssowl.core.tests.ui.SavedSearchServiceTest;
 import org.rssowl.core.tests.ui.StatisticsContentProviderTest;
 import org.rssowl.core.tests.ui.StatisticsViewSorterTest;
 import org.rssowl.core.tests.ui.TreeTraversalTest;
 import org.rssowl.core.tests.ui.UndoTest;
+import org.rssowl.core.tests.ui.WordHighlighterTest;
 
 /**
  * Test-Suite for UI-Tests.
@@ -74,5 +77,8 @@ import org.rssowl.core.tests.ui.UndoTest;
   CustomStatisticsViewSorterTest.class,
   ReadPercentageChartTest.class,
   RateActionTest.class,
-  NewsComparatorTest.class})
+  NewsComparatorTest.class,
+  WordHighlighterTest.class,
+  NewsBrowserLabelProviderTest.class,
+  SavedSearchServiceTest.class})
 public class UITests {}
\ No newline at end of file
@@ -540,6 +540,25 @@ public class InterpreterTest {
     assertEquals(23, cal.get(Calendar.HOUR_OF_DAY));
     assertEquals(0, cal.get(Calendar.MINUTE));
     assertEquals(51, cal.get(Calendar.SECOND));
+
+    /* Detailed Check #3 */
+    cal.setTime(DateUtils.parseDate("2007-10-03T09:44:12.470-05:00"));
+    assertEquals(2007, cal.get(Calendar.YEAR));
+    assertEquals(9, cal.get(Calendar.MONTH));
+    assertEquals(3, cal.get(Calendar.DAY_OF_MONTH));
+    assertEquals(14, cal.get(Calendar.HOUR_OF_DAY));
+    assertEquals(44, cal.get(Calendar.MINUTE));
+    assertEquals(12, cal.get(Calendar.SECOND));
+    assertEquals(470, cal.get(Calendar.MILLISECOND));
+
+    /* Same Date in different Formats */
+    long time = DateUtils.parseDate("Tue, 19 Jul 2005 23:00:51 GMT").getTime();
+    assertEquals(time, DateUtils.parseDate("Tue, 19 Jul 2005 19:00:51 EDT").getTime());
+    assertEquals(time, DateUtils.parseDate("19 Jul 2005 21:00:51 -0200").getTime());
+    assertEquals(time, DateUtils.parseDate("Tue, 19 Jul 2005 18:00:51 -5:00").getTime());
+    assertEquals(time, DateUtils.parseDate("2005-07-19T23:00:51Z").getTime());
+    assertEquals(time, DateUtils.parseDate("2005-07-20T01:00:51+02:00").getTime());
+    assertEquals(time, DateUtils.parseDate("2005-07-19T23:00:51").getTime());
   }
 
   /**
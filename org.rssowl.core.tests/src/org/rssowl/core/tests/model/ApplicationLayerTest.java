@@ -38,6 +38,7 @@ import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.MergeResult;
 import org.rssowl.core.internal.persist.pref.DefaultPreferences;
+import org.rssowl.core.internal.persist.service.DBManager;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.IBookMark;
 import org.rssowl.core.persist.ICategory;
@@ -82,6 +83,7 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This TestCase is for testing the IApplicationLayer.
@@ -162,6 +164,68 @@ public class ApplicationLayerTest {
     assertEquals(lastUpdatedDate, mark1.getMostRecentNewsDate().getTime());
   }
 
+  /**
+   * Tests that a Feed can be reloaded while the state of its News is changed
+   * from another thread, without losing any of the changes.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testHandleFeedReloadWhileSettingNewsState() throws Exception {
+    final int newsCount = 10;
+    final int iterations = 20;
+    final URI feedLink = new URI("http://www.feed.com");
+
+    IFolder folder = fFactory.createFolder(null, null, "Folder");
+    IFeed feed = fFactory.createFeed(null, feedLink);
+    for (int i = 0; i < newsCount; i++) {
+      INews news = fFactory.createNews(null, feed, new Date());
+      news.setLink(new URI("http://www.feed.com/news" + i));
+      news.setTitle("Title");
+    }
+    feed = DynamicDAO.save(feed);
+    final IBookMark mark = fFactory.createBookMark(null, folder, new FeedLinkReference(feedLink), "Mark");
+    DynamicDAO.save(folder);
+
+    final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    Thread reloadThread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          for (int i = 0; i < iterations; i++) {
+            IFeed emptyFeed = fFactory.createFeed(null, feedLink);
+            for (int j = 0; j < newsCount; j++) {
+              INews news = fFactory.createNews(null, emptyFeed, new Date());
+              news.setLink(new URI("http://www.feed.com/news" + j));
+              news.setTitle("Title " + i);
+            }
+            fAppService.handleFeedReload(mark, emptyFeed, null, false);
+          }
+        } catch (Throwable t) {
+          failure.set(t);
+        }
+      }
+    };
+    reloadThread.start();
+
+    List<INews> news = new ArrayList<INews>(feed.getNews());
+    INewsDAO newsDao = Owl.getPersistenceService().getDAOService().getNewsDAO();
+    for (int i = 0; i < iterations; i++)
+      newsDao.setState(news, (i % 2 == 0) ? INews.State.READ : INews.State.UNREAD, false, false);
+
+    reloadThread.join();
+    if (failure.get() != null)
+      throw new Exception(failure.get());
+
+    assertEquals(newsCount, feed.getNews().size());
+    for (INews newsItem : feed.getNews()) {
+      assertEquals("Title " + (iterations - 1), newsItem.getTitle());
+      INews persistedNews = DBManager.getDefault().getObjectContainer().ext().peekPersisted(newsItem, 1, true);
+      assertEquals(newsItem.getTitle(), persistedNews.getTitle());
+      assertEquals(newsItem.getState(), persistedNews.getState());
+    }
+  }
+
   /**
    * See bug #317 : Retention strategy works incorrectly if news is deleted
    * before being saved.
@@ -1261,6 +1325,8 @@ public class ApplicationLayerTest {
       assertEquals(2, newsCounter.getNewCount(news1.getFeedReference().getLink()));
       assertEquals(2, newsCounter.getUnreadCount(news2.getFeedReference().getLink()));
       assertEquals(2, newsCounter.getNewCount(news2.getFeedReference().getLink()));
+      assertEquals(0, newsCounter.getReadCount(news1.getFeedReference().getLink()));
+      assertEquals(2, newsCounter.getTotalCount(news1.getFeedReference().getLink()));
 
       final long feed1ID = feed1.getId();
       final long feed2ID = feed2.getId();
@@ -1299,6 +1365,9 @@ public class ApplicationLayerTest {
       assertEquals(1, newsCounter.getNewCount(news1.getFeedReference().getLink()));
       assertEquals(1, newsCounter.getUnreadCount(news2.getFeedReference().getLink()));
       assertEquals(1, newsCounter.getNewCount(news2.getFeedReference().getLink()));
+      assertEquals(1, newsCounter.getReadCount(news1.getFeedReference().getLink()));
+      assertEquals(1, newsCounter.getReadCount(news2.getFeedReference().getLink()));
+      assertEquals(2, newsCounter.getTotalCount(news2.getFeedReference().getLink()));
     } finally {
       if (newsListener != null)
         DynamicDAO.removeEntityListener(INews.class, newsListener);
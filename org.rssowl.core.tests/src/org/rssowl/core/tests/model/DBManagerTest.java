@@ -37,6 +37,7 @@ import org.junit.Test;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.BookMark;
 import org.rssowl.core.internal.persist.Category;
+import org.rssowl.core.internal.persist.Description;
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.Folder;
 import org.rssowl.core.internal.persist.Guid;
@@ -48,6 +49,7 @@ import org.rssowl.core.internal.persist.NewsContainer;
 import org.rssowl.core.internal.persist.Person;
 import org.rssowl.core.internal.persist.SearchMark;
 import org.rssowl.core.internal.persist.Source;
+import org.rssowl.core.internal.persist.service.DBHelper;
 import org.rssowl.core.internal.persist.service.DBManager;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.IBookMark;
@@ -2368,4 +2370,237 @@ public class DBManagerTest {
     DynamicDAO.delete(newsRef.resolve());
     DynamicDAO.delete(feed);
   }
+
+  /**
+   * Tests that the snapshot of a News that is used for NewsEvents matches the
+   * News that is stored in the DB before and after it is saved.
+   */
+  @Test
+  public void testSnapshotEqualsPersistedNews() {
+    IFeed feed = createFeed();
+    INews news = fTypesFactory.createNews(null, feed, new Date());
+    news.setTitle("Title");
+    news.setLink(createURI("http://www.link.com"));
+    fTypesFactory.createGuid(news, "http://www.guid.com", true);
+    fTypesFactory.createPerson(null, news).setName("Author");
+    fTypesFactory.createCategory(null, news).setName("Category");
+    ILabel label = DynamicDAO.save(createLabel());
+    news.addLabel(label);
+    DynamicDAO.save(feed);
+
+    news.setState(INews.State.READ);
+    news.setFlagged(true);
+    news.setTitle("Other Title");
+    news.removeLabel(label);
+    fTypesFactory.createCategory(null, news).setName("Other Category");
+
+    assertSnapshotEqualsPersisted(news);
+    assertEquals(State.NEW, DBHelper.peekPersistedNews(fDb, news).getState());
+
+    DynamicDAO.save(news);
+
+    assertSnapshotEqualsPersisted(news);
+    assertEquals(State.READ, DBHelper.peekPersistedNews(fDb, news).getState());
+
+    /* Merging changes the Author and Categories in place */
+    INews reloadedNews = fTypesFactory.createNews(null, createFeed(), new Date());
+    reloadedNews.setTitle("Other Title");
+    reloadedNews.setLink(createURI("http://www.link.com"));
+    fTypesFactory.createGuid(reloadedNews, "http://www.guid.com", true);
+    fTypesFactory.createPerson(null, reloadedNews).setName("Other Author");
+    ICategory category = fTypesFactory.createCategory(null, reloadedNews);
+    category.setName("Category");
+    category.setDomain("Domain");
+    fTypesFactory.createCategory(null, reloadedNews).setName("Other Category");
+
+    assertTrue(((News) news).merge(reloadedNews).getUpdatedObjects().contains(news));
+    assertEquals("Other Author", news.getAuthor().getName());
+    assertEquals("Domain", news.getCategories().get(0).getDomain());
+
+    INews snapshot = DBHelper.peekPersistedNews(fDb, news);
+    assertEquals("Author", snapshot.getAuthor().getName());
+    assertNull(snapshot.getCategories().get(0).getDomain());
+    assertSnapshotEqualsPersisted(news);
+
+    DynamicDAO.save(news);
+
+    assertSnapshotEqualsPersisted(news);
+    assertEquals("Domain", DBHelper.peekPersistedNews(fDb, news).getCategories().get(0).getDomain());
+  }
+
+  /**
+   * Tests that a merge that does not change a News does not leave a snapshot of
+   * it behind.
+   */
+  @Test
+  public void testMergeWithoutChangeKeepsNoSnapshot() {
+    IFeed feed = createFeed();
+    News news = (News) fTypesFactory.createNews(null, feed, new Date());
+    news.setTitle("Title");
+    news.setLink(createURI("http://www.link.com"));
+    DynamicDAO.save(feed);
+
+    INews reloadedNews = fTypesFactory.createNews(null, createFeed(), new Date());
+    reloadedNews.setTitle("Title");
+    reloadedNews.setLink(createURI("http://www.link.com"));
+
+    assertFalse(news.merge(reloadedNews).getUpdatedObjects().contains(news));
+
+    /* Without a snapshot, a new copy of the News is returned each time */
+    assertTrue(news.getSnapshot() != news.getSnapshot());
+
+    reloadedNews.setTitle("Other Title");
+    assertTrue(news.merge(reloadedNews).getUpdatedObjects().contains(news));
+    assertTrue(news.getSnapshot() == news.getSnapshot());
+    assertEquals("Title", news.getSnapshot().getTitle());
+    assertSnapshotEqualsPersisted(news);
+  }
+
+  private void assertSnapshotEqualsPersisted(INews news) {
+    News persisted = (News) fDb.ext().peekPersisted(news, 2, true);
+    persisted.init();
+    INews snapshot = DBHelper.peekPersistedNews(fDb, news);
+
+    assertEquals(persisted.getId(), snapshot.getId());
+    assertEquals(persisted.getState(), snapshot.getState());
+    assertEquals(persisted.isFlagged(), snapshot.isFlagged());
+    assertEquals(persisted.getTitle(), snapshot.getTitle());
+    assertEquals(persisted.getLinkAsText(), snapshot.getLinkAsText());
+    assertEquals(persisted.getGuid().getValue(), snapshot.getGuid().getValue());
+    assertEquals(persisted.getParentId(), ((News) snapshot).getParentId());
+    assertEquals(persisted.getLabels(), snapshot.getLabels());
+    assertEquals(persisted.getCategories(), snapshot.getCategories());
+    for (int i = 0; i < persisted.getCategories().size(); i++) {
+      assertEquals(persisted.getCategories().get(i).getName(), snapshot.getCategories().get(i).getName());
+      assertEquals(persisted.getCategories().get(i).getDomain(), snapshot.getCategories().get(i).getDomain());
+    }
+    assertEquals(persisted.getAuthor(), snapshot.getAuthor());
+    if (persisted.getAuthor() != null)
+      assertEquals(persisted.getAuthor().getName(), snapshot.getAuthor().getName());
+    assertEquals(persisted.getReceiveDate(), snapshot.getReceiveDate());
+  }
+
+  /**
+   * Tests that a long description is stored compressed and read back
+   * unchanged.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testCompressedDescriptionRoundTrip() throws Exception {
+    INews news = createSavedNews();
+    String value = createLongDescription();
+
+    fDb.set(new Description(news, value, true));
+    fDb.commit();
+
+    Description description = loadDescription(news, "fValue");
+    assertNotNull("Description was not stored compressed", description);
+    assertEquals(value, description.getValue());
+    assertEquals(value, fDb.ext().peekPersisted(description, Integer.MAX_VALUE, true).getValue());
+    assertEquals(value, DBHelper.getDescriptionDAO().loadValue(news.getId()));
+    assertEquals(value, news.getDescription());
+  }
+
+  /**
+   * Tests that a description that was stored before compression was enabled
+   * (i.e. with rssowl.compressdescriptions set) is still read correctly. The
+   * stored form is only chosen on write, so the value is created uncompressed
+   * explicitly.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testUncompressedDescriptionReadWithCompression() throws Exception {
+    INews news = createSavedNews();
+    String value = createLongDescription();
+
+    fDb.set(new Description(news, value, false));
+    fDb.commit();
+
+    Description description = loadDescription(news, "fCompressedValue");
+    assertNotNull("Description was not stored uncompressed", description);
+    assertEquals(value, fDb.ext().peekPersisted(description, Integer.MAX_VALUE, true).getValue());
+    assertEquals(value, DBHelper.getDescriptionDAO().loadValue(news.getId()));
+
+    /* Replace it with a compressed value and read it back */
+    String newValue = value + " updated";
+    Description compressed = new Description(news, newValue, true);
+    fDb.delete(description);
+    fDb.set(compressed);
+    fDb.commit();
+
+    assertNotNull(loadDescription(news, "fValue"));
+    assertEquals(newValue, DBHelper.getDescriptionDAO().loadValue(news.getId()));
+  }
+
+  /**
+   * Tests that the cached description values are dropped when the
+   * description is updated or deleted.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testDescriptionCacheInvalidation() throws Exception {
+    INews news = createSavedNews();
+    long newsId = news.getId();
+
+    news.setDescription("Description");
+    DynamicDAO.save(news);
+    assertEquals("Description", DBHelper.getDescriptionDAO().loadValue(newsId));
+    assertEquals("Description", DBHelper.getDescriptionDAO().loadValue(newsId));
+
+    /* Update through the News */
+    news.setDescription("Updated Description");
+    DynamicDAO.save(news);
+    assertEquals("Updated Description", DBHelper.getDescriptionDAO().loadValue(newsId));
+    assertEquals("Updated Description", news.getDescription());
+
+    /* Update the Description directly */
+    Description description = DBHelper.getDescriptionDAO().load(newsId);
+    description.setDescription("Changed Description");
+    fDb.set(description);
+    fDb.commit();
+    assertEquals("Changed Description", DBHelper.getDescriptionDAO().loadValue(newsId));
+
+    /* Delete through the News */
+    news.setDescription(null);
+    DynamicDAO.save(news);
+    assertNull(DBHelper.getDescriptionDAO().loadValue(newsId));
+    assertNull(news.getDescription());
+
+    /* Add it again after a News without description was cached */
+    news.setDescription("New Description");
+    DynamicDAO.save(news);
+    assertEquals("New Description", DBHelper.getDescriptionDAO().loadValue(newsId));
+  }
+
+  private INews createSavedNews() throws URISyntaxException {
+    IFeed feed = fTypesFactory.createFeed(null, new URI("http://www.feed.com"));
+    fTypesFactory.createNews(null, feed, new Date());
+    feed = DynamicDAO.save(feed);
+    return feed.getNews().get(0);
+  }
+
+  private String createLongDescription() {
+    StringBuilder value = new StringBuilder();
+    for (int i = 0; i < 100; i++)
+      value.append("Description with some non-ASCII chars \u00e4\u00f6\u00fc\u20ac ").append(i);
+
+    return value.toString();
+  }
+
+  /* Loads the Description of the News if the given field is not set */
+  private Description loadDescription(INews news, String nullField) {
+    Query query = fDb.query();
+    query.constrain(Description.class);
+    query.descend("fNewsId").constrain(news.getId());
+    query.descend(nullField).constrain(null);
+    List<?> result = query.execute();
+    if (result.isEmpty())
+      return null;
+
+    assertEquals(1, result.size());
+    return (Description) result.get(0);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.rssowl.ui.internal.util.ExpandingReader;
+import org.rssowl.ui.internal.util.WordHighlighter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the time needed by {@link ExpandingReader} and
+ * {@link WordHighlighter} to highlight words in the HTML of many News, using
+ * the inputs of <code>ExpandingReaderTests</code>.
+ */
+public class HighlightingPerformanceTest {
+
+  /* Number of times the HTML of a News is repeated */
+  private static final int NEWS = 2000;
+
+  /* Number of measured Runs */
+  private static final int RUNS = 10;
+
+  private static final String PRE_HIGHLIGHT = "<span style=\"background-color:rgb(255,255,0)\">";
+  private static final String POST_HIGHLIGHT = "</span>";
+
+  private static final String NEWS_HTML = "<div class=\"newsitem\">\r\n<div class=\"header\">\r\n<div class=\"title\">\r\n" +
+      "<a href=\"http://www.rssowl.org/node/199\" class=\"read\">Feed Security and RSSOwl</a></div>\r\n" +
+      "<div class=\"date\">\r\nMontag, 7. August 2006 21:37</div>\r\n<div class=\"author\">\r\nbpasero</div>\r\n</div>\r\n" +
+      "<div class=\"content\">\r\n<p>Hello <b>World</b> in <a href=\"http://www.rssowl.org\">RSSOwl.org</a></p>\r\n" +
+      "As Nick already mentioned in his <a href=\"http://nick.typepad.com/blog/2006/08/feed_security_a.html\">Blog</a>,  the " +
+      "<a href=\"http://www.blackhat.com/html/bh-usa-06/bh-usa-06-index.html\">Black Hat USA 2006</a> brought up the topic about " +
+      "security issues in newsreaders. RSSOwl was <a href=\"http://news.com.com/2100-1002_3-6102171.html\">mentioned</a> to be " +
+      "vulnerable on malicious JavaScript coming from a newsfeed.\r\n\r\nBen</div>\r\n<div class=\"footer\">\r\n" +
+      "<div class=\"searchrelated\">\r\n<span class=\"label\">Search related News:</span>\r\n" +
+      "<a href=\"rssowl://org.rssowl.ui.search.Author?bpasero\" class=\"searchrelated\">bpasero</a></div>\r\n</div>\r\n</div>\r\n";
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testHighlighting() throws Exception {
+    StringBuilder html = new StringBuilder(NEWS_HTML.length() * NEWS);
+    for (int i = 0; i < NEWS; i++)
+      html.append(NEWS_HTML);
+
+    String text = html.toString();
+    List<String> words = Arrays.asList("rssowl", "world", "security", "explorer", "news*", "bpasero");
+
+    /* Warm up and make sure both produce the same Result */
+    assertEquals(expand(text, words), highlight(text, words));
+
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < RUNS; i++)
+      expand(text, words);
+    long expandingReaderTime = System.currentTimeMillis() - start;
+
+    start = System.currentTimeMillis();
+    for (int i = 0; i < RUNS; i++)
+      highlight(text, words);
+    long wordHighlighterTime = System.currentTimeMillis() - start;
+
+    System.out.println("Highlighting " + words.size() + " Words in " + NEWS + " News [ExpandingReader - " + RUNS + " Runs] took: " + expandingReaderTime + "ms");
+    System.out.println("Highlighting " + words.size() + " Words in " + NEWS + " News [WordHighlighter - " + RUNS + " Runs] took: " + wordHighlighterTime + "ms");
+  }
+
+  private String expand(String text, List<String> words) throws IOException {
+    StringBuilder result = new StringBuilder(text.length());
+    ExpandingReader reader = new ExpandingReader(new StringReader(text), words, PRE_HIGHLIGHT, POST_HIGHLIGHT, true);
+
+    int len = 0;
+    char[] buf = new char[1000];
+    while ((len = reader.read(buf)) != -1)
+      result.append(buf, 0, len);
+
+    return result.toString();
+  }
+
+  private String highlight(String text, List<String> words) {
+    StringBuilder result = new StringBuilder(text.length() + text.length() / 8);
+    new WordHighlighter(words, PRE_HIGHLIGHT, POST_HIGHLIGHT).highlight(text, result);
+
+    return result.toString();
+  }
+}
@@ -34,6 +34,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.InternalOwl;
+import org.rssowl.core.internal.interpreter.InterpreterServiceImpl;
 import org.rssowl.core.internal.persist.BookMark;
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.Folder;
@@ -70,6 +71,7 @@ import org.rssowl.core.persist.service.IModelSearch;
 import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.tests.Activator;
 import org.rssowl.core.tests.TestUtils;
+import org.rssowl.core.util.DateUtils;
 import org.rssowl.core.util.ITask;
 import org.rssowl.core.util.TaskAdapter;
 import org.rssowl.ui.internal.Controller;
@@ -84,7 +86,9 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -95,6 +99,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -1037,6 +1043,188 @@ public class PerformanceTest {
       throw ex.get(0);
   }
 
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void interpretRealWorldFeedsStreaming() throws Exception {
+    File corpusFolder = new File(fPluginLocation.resolve("data/performance/corpus_10-03-07"));
+    File tmpFolder = new File(System.getProperty("java.io.tmpdir"));
+    File feedFolder = new File(tmpFolder.getAbsolutePath(), "rssowlfeeds");
+    feedFolder.mkdir();
+    feedFolder.deleteOnExit();
+
+    /* Copy Feeds of corpus_10-03-07 to temp location */
+    copyFeedFilesToTempLocation(corpusFolder, feedFolder);
+
+    final List<Exception> ex = new ArrayList<Exception>();
+    List<ITask> domTasks = getInterpretRealWorldFeedsTasks(feedFolder, false, ex);
+    List<ITask> streamingTasks = getInterpretRealWorldFeedsTasks(feedFolder, true, ex);
+
+    /* Cold-Start: Interpret Feeds */
+    System.out.println("Interpreting Real World Feeds: " + FEEDS + " Feeds [DOM, Cold - " + JOBS + " Jobs] took: " + TestUtils.executeAndWait(domTasks, JOBS) + "ms");
+    System.out.println("Interpreting Real World Feeds: " + FEEDS + " Feeds [Streaming, Cold - " + JOBS + " Jobs] took: " + TestUtils.executeAndWait(streamingTasks, JOBS) + "ms");
+
+    /* Warm-Start: Interpret Feeds */
+    System.gc();
+    long l1 = TestUtils.executeAndWait(domTasks, JOBS);
+    long l2 = TestUtils.executeAndWait(domTasks, JOBS);
+    System.out.println("Interpreting Real World Feeds: " + FEEDS + " Feeds [DOM, Warm - " + JOBS + " Jobs] took: " + (l1 + l2) / 2 + "ms");
+
+    System.gc();
+    l1 = TestUtils.executeAndWait(streamingTasks, JOBS);
+    l2 = TestUtils.executeAndWait(streamingTasks, JOBS);
+    System.out.println("Interpreting Real World Feeds: " + FEEDS + " Feeds [Streaming, Warm - " + JOBS + " Jobs] took: " + (l1 + l2) / 2 + "ms\n");
+
+    if (ex.size() > 0)
+      throw ex.get(0);
+  }
+
+  private List<ITask> getInterpretRealWorldFeedsTasks(File feedFolder, final boolean streaming, final List<Exception> ex) {
+    final InterpreterServiceImpl interpreter = (InterpreterServiceImpl) Owl.getInterpreter();
+    List<ITask> tasks = new ArrayList<ITask>();
+    for (int i = 1; i < FEEDS + 1; i++) {
+      final File file = new File(feedFolder, i + ".xml");
+      if (!file.exists())
+        continue;
+
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          try {
+            IFeed feed = new Feed(file.toURI());
+
+            InputStream inS = loadFileProtocol(feed.getLink());
+            interpreter.interpret(inS, feed, streaming);
+          } catch (Exception e) {
+            ex.add(e);
+          }
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    return tasks;
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void parseDates() throws Exception {
+    final List<String> dates = getDateStringsHelper();
+    List<ITask> tasks = new ArrayList<ITask>();
+
+    /* Prepare Tasks */
+    for (int i = 0; i < FEEDS; i++) {
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          for (String date : dates)
+            DateUtils.parseDate(date);
+
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    /* Cold-Start: Parse Dates */
+    System.out.println("Parsing " + dates.size() + " Dates " + FEEDS + " Times [Cold - " + JOBS + " Jobs] took: " + TestUtils.executeAndWait(tasks, JOBS) + "ms");
+
+    /* Warm-Start: Parse Dates */
+    long l1 = TestUtils.executeAndWait(tasks, JOBS);
+    long l2 = TestUtils.executeAndWait(tasks, JOBS);
+
+    System.out.println("Parsing " + dates.size() + " Dates " + FEEDS + " Times [Warm - " + JOBS + " Jobs] took: " + (l1 + l2) / 2 + "ms\n");
+  }
+
+  @SuppressWarnings("nls")
+  private List<String> getDateStringsHelper() throws Exception {
+    Pattern datePattern = Pattern.compile("<(pubDate|lastBuildDate|dc:date|updated|published|modified|issued|created)>([^<]+)</", Pattern.CASE_INSENSITIVE);
+    List<String> dates = new ArrayList<String>();
+    for (int i = 1; i < FEEDS + 1; i++) {
+      File file = new File(fPluginLocation.resolve("data/performance/" + i + ".xml"));
+      StringBuilder content = new StringBuilder();
+      Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+      try {
+        char[] buf = new char[4096];
+        int read;
+        while ((read = reader.read(buf)) != -1)
+          content.append(buf, 0, read);
+      } finally {
+        reader.close();
+      }
+
+      Matcher matcher = datePattern.matcher(content);
+      while (matcher.find())
+        dates.add(matcher.group(2));
+    }
+
+    return dates;
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void mergeFeeds() throws Exception {
+    int[] sizes = new int[] { 100, 1000, 10000 };
+    for (int size : sizes) {
+
+      /* Cold-Start: Merge Feeds */
+      System.out.println("Merging Feeds with " + size + " News [Cold] took: " + mergeFeedsHelper(size) + "ms");
+
+      /* Warm-Start: Merge Feeds */
+      long l1 = mergeFeedsHelper(size);
+      long l2 = mergeFeedsHelper(size);
+
+      System.out.println("Merging Feeds with " + size + " News [Warm] took: " + (l1 + l2) / 2 + "ms");
+    }
+    System.out.println();
+  }
+
+  /*
+   * Merges a Feed of newsCount News into a Feed with the same number of News
+   * where one half of the News are equivalent (by guid, link or title) and
+   * some of the others are deleted.
+   */
+  @SuppressWarnings("nls")
+  private long mergeFeedsHelper(int newsCount) throws Exception {
+    URI feedLink = new URI("http://www.rssowl.org/merge.xml");
+    IFeed existingFeed = createMergeFeed(feedLink, 0, newsCount);
+    IFeed feedToMerge = createMergeFeed(feedLink, newsCount / 2, newsCount);
+
+    int i = 0;
+    for (INews news : existingFeed.getNews()) {
+      if (i++ % 10 == 0)
+        news.setState(INews.State.DELETED);
+    }
+
+    long start = System.currentTimeMillis();
+    existingFeed.mergeAndCleanUp(feedToMerge);
+    return System.currentTimeMillis() - start;
+  }
+
+  @SuppressWarnings("nls")
+  private IFeed createMergeFeed(URI feedLink, int offset, int newsCount) throws Exception {
+    IModelFactory factory = Owl.getModelFactory();
+    IFeed feed = factory.createFeed(null, feedLink);
+    for (int i = offset; i < offset + newsCount; i++) {
+      INews news = factory.createNews(null, feed, new Date());
+      news.setTitle("News Title " + i);
+      switch (i % 3) {
+        case 0:
+          factory.createGuid(news, "http://www.rssowl.org/guid/" + i, true);
+          break;
+        case 1:
+          news.setLink(new URI("http://www.rssowl.org/link/" + i));
+          break;
+      }
+    }
+    return feed;
+  }
+
   /**
    * @throws Exception
    */
@@ -24,9 +24,13 @@
 package org.rssowl.core.tests.persist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.rssowl.core.internal.persist.LongArrayList;
+import org.rssowl.core.internal.persist.SortedLongArrayList;
+
+import java.util.Arrays;
 
 /**
  * Unit tests for LongArrayList.
@@ -76,4 +80,32 @@ public class LongArrayListTest {
     list.add(2);
     list.get(3);
   }
+
+  /**
+   * Tests that removeAll removes the given elements in a single pass and keeps
+   * the order of the remaining ones.
+   */
+  @Test
+  public void testRemoveAll() {
+    LongArrayList list = new LongArrayList(10);
+    list.add(5);
+    list.add(1);
+    list.add(4);
+    list.add(2);
+    list.add(3);
+
+    long[] removed = list.removeAll(new long[] { 2, 4, 6 });
+    assertTrue(Arrays.equals(new long[] { 4, 2 }, removed));
+    assertTrue(list.elementsEqual(new long[] { 5, 1, 3 }));
+
+    removed = list.removeAll(new long[] { 7 });
+    assertEquals(0, removed.length);
+    assertEquals(3, list.size());
+
+    SortedLongArrayList sortedList = new SortedLongArrayList(10);
+    sortedList.setAll(new long[] { 3, 1, 2, 5, 4 });
+    sortedList.removeAll(new long[] { 1, 5 });
+    assertTrue(sortedList.elementsEqual(new long[] { 2, 3, 4 }));
+    assertEquals(1, sortedList.indexOf(3));
+  }
 }
@@ -0,0 +1,195 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.persist.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.core.internal.persist.Feed;
+import org.rssowl.core.internal.persist.service.EventDispatcher;
+import org.rssowl.core.persist.event.AsyncEntityListener;
+import org.rssowl.core.persist.event.FeedAdapter;
+import org.rssowl.core.persist.event.FeedEvent;
+import org.rssowl.core.persist.event.runnable.EventType;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the delivery of Events to asynchronous Listeners by the
+ * EventDispatcher.
+ */
+public class EventDispatcherTest {
+
+  /* Records the Events it is notified about and blocks on the first call */
+  private static class RecordingListener extends FeedAdapter implements AsyncEntityListener {
+    private final List<EventType> fEventTypes = new ArrayList<EventType>();
+    private final List<Set<FeedEvent>> fEvents = new ArrayList<Set<FeedEvent>>();
+    private final List<Thread> fThreads = new ArrayList<Thread>();
+    private final CountDownLatch fEntered = new CountDownLatch(1);
+    private final CountDownLatch fReleased = new CountDownLatch(1);
+
+    @Override
+    public void entitiesAdded(Set<FeedEvent> events) {
+      record(EventType.PERSIST, events);
+    }
+
+    @Override
+    public void entitiesUpdated(Set<FeedEvent> events) {
+      record(EventType.UPDATE, events);
+    }
+
+    @Override
+    public void entitiesDeleted(Set<FeedEvent> events) {
+      record(EventType.REMOVE, events);
+    }
+
+    private void record(EventType eventType, Set<FeedEvent> events) {
+      synchronized (this) {
+        fEventTypes.add(eventType);
+        fEvents.add(new HashSet<FeedEvent>(events));
+        fThreads.add(Thread.currentThread());
+        notifyAll();
+      }
+
+      fEntered.countDown();
+      try {
+        fReleased.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    synchronized void awaitCalls(int count) throws InterruptedException {
+      long end = System.currentTimeMillis() + 5000;
+      while (fEventTypes.size() < count && System.currentTimeMillis() < end)
+        wait(100);
+
+      assertEquals(count, fEventTypes.size());
+    }
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testSyncListenerIsNotifiedInCallingThread() throws Exception {
+    EventDispatcher dispatcher = new EventDispatcher(true, 1);
+    final List<Thread> threads = new ArrayList<Thread>();
+    FeedAdapter listener = new FeedAdapter() {
+      @Override
+      public void entitiesAdded(Set<FeedEvent> events) {
+        threads.add(Thread.currentThread());
+      }
+    };
+
+    dispatcher.dispatch(listener, events(createEvent(1)), EventType.PERSIST);
+
+    assertEquals(1, threads.size());
+    assertSame(Thread.currentThread(), threads.get(0));
+    assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testEventsAreDeliveredInOrderAndCoalesced() throws Exception {
+    EventDispatcher dispatcher = new EventDispatcher(true, 2);
+    RecordingListener listener = new RecordingListener();
+    FeedEvent event1 = createEvent(1);
+    FeedEvent event2 = createEvent(2);
+
+    /* Block the Listener in its first Call */
+    dispatcher.dispatch(listener, events(event1), EventType.PERSIST);
+    assertTrue(listener.fEntered.await(5, TimeUnit.SECONDS));
+    assertEquals(0, dispatcher.getQueueDepth());
+
+    /* Equal Events of the same Type are merged and counted once */
+    dispatcher.dispatch(listener, events(event1), EventType.UPDATE);
+    dispatcher.dispatch(listener, events(event2), EventType.UPDATE);
+    dispatcher.dispatch(listener, events(createEvent(1)), EventType.UPDATE);
+    dispatcher.dispatch(listener, events(event2), EventType.REMOVE);
+    assertEquals(3, dispatcher.getQueueDepth());
+
+    listener.fReleased.countDown();
+    listener.awaitCalls(3);
+
+    assertEquals(EventType.PERSIST, listener.fEventTypes.get(0));
+    assertEquals(events(event1), listener.fEvents.get(0));
+    assertEquals(EventType.UPDATE, listener.fEventTypes.get(1));
+    assertEquals(events(event1, event2), listener.fEvents.get(1));
+    assertEquals(EventType.REMOVE, listener.fEventTypes.get(2));
+    assertEquals(events(event2), listener.fEvents.get(2));
+    assertTrue(listener.fThreads.get(0) != Thread.currentThread());
+    assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testDiscardDropsPendingEvents() throws Exception {
+    EventDispatcher dispatcher = new EventDispatcher(true, 1);
+    RecordingListener listener = new RecordingListener();
+
+    dispatcher.dispatch(listener, events(createEvent(1)), EventType.PERSIST);
+    assertTrue(listener.fEntered.await(5, TimeUnit.SECONDS));
+
+    dispatcher.dispatch(listener, events(createEvent(2)), EventType.UPDATE);
+    dispatcher.dispatch(listener, events(createEvent(3)), EventType.REMOVE);
+    assertEquals(2, dispatcher.getQueueDepth());
+
+    dispatcher.discard(listener);
+    assertEquals(0, dispatcher.getQueueDepth());
+
+    /* Events dispatched after discarding are delivered again */
+    dispatcher.dispatch(listener, events(createEvent(4)), EventType.UPDATE);
+    listener.fReleased.countDown();
+    listener.awaitCalls(2);
+
+    assertEquals(EventType.UPDATE, listener.fEventTypes.get(1));
+    assertEquals(events(createEvent(4)), listener.fEvents.get(1));
+    assertEquals(0, dispatcher.getQueueDepth());
+  }
+
+  private FeedEvent createEvent(long id) throws Exception {
+    return new FeedEvent(new Feed(id, new URI("http://www.feed" + id + ".com")), true);
+  }
+
+  private Set<FeedEvent> events(FeedEvent... events) {
+    Set<FeedEvent> set = new HashSet<FeedEvent>();
+    Collections.addAll(set, events);
+    return set;
+  }
+}
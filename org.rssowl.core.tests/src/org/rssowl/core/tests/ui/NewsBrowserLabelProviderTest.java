@@ -0,0 +1,142 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.ui;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.PlatformUI;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.rssowl.core.Owl;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.ILabel;
+import org.rssowl.core.persist.IModelFactory;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.ui.internal.editors.feed.NewsBrowserLabelProvider;
+import org.rssowl.ui.internal.editors.feed.NewsBrowserViewer;
+
+import java.net.URI;
+import java.util.Date;
+
+/**
+ * Tests the cache of rendered News in {@link NewsBrowserLabelProvider}.
+ */
+public class NewsBrowserLabelProviderTest {
+  private IModelFactory fFactory;
+  private Shell fShell;
+  private NewsBrowserLabelProvider fLabelProvider;
+
+  /**
+   * @throws Exception
+   */
+  @Before
+  public void setUp() throws Exception {
+    fFactory = Owl.getModelFactory();
+    Owl.getPersistenceService().recreateSchema();
+
+    fShell = new Shell(PlatformUI.getWorkbench().getDisplay());
+    fLabelProvider = new NewsBrowserLabelProvider(new NewsBrowserViewer(fShell, SWT.NONE));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @After
+  public void tearDown() throws Exception {
+    fLabelProvider.dispose();
+    fShell.dispose();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testCachedLabelIsReused() throws Exception {
+    INews news = createNews("Hello World");
+
+    String label = fLabelProvider.getText(news);
+    assertTrue(label.contains("Hello World"));
+    assertSame(label, fLabelProvider.getText(news));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testNewsUpdateInvalidatesLabel() throws Exception {
+    INews news = createNews("Hello World");
+    String label = fLabelProvider.getText(news);
+
+    news.setTitle("Changed Title");
+    DynamicDAO.save(news);
+
+    String changedLabel = fLabelProvider.getText(news);
+    assertNotSame(label, changedLabel);
+    assertTrue(changedLabel.contains("Changed Title"));
+    assertFalse(changedLabel.contains("Hello World"));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testLabelUpdateInvalidatesLabel() throws Exception {
+    ILabel label = fFactory.createLabel(null, "Important");
+    DynamicDAO.save(label);
+
+    INews news = createNews("Hello World");
+    news.addLabel(label);
+    DynamicDAO.save(news);
+
+    String html = fLabelProvider.getText(news);
+    assertTrue(html.contains("Important"));
+
+    label.setName("Renamed");
+    DynamicDAO.save(label);
+
+    html = fLabelProvider.getText(news);
+    assertTrue(html.contains("Renamed"));
+    assertFalse(html.contains("Important"));
+
+    DynamicDAO.delete(label);
+    assertFalse(fLabelProvider.getText(news).contains("Renamed"));
+  }
+
+  private INews createNews(String title) throws Exception {
+    IFeed feed = fFactory.createFeed(null, new URI("http://www.feed.com"));
+    INews news = fFactory.createNews(null, feed, new Date());
+    news.setTitle(title);
+    DynamicDAO.save(feed);
+
+    return feed.getNews().get(0);
+  }
+}
@@ -0,0 +1,206 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.rssowl.core.Owl;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.IFolder;
+import org.rssowl.core.persist.IModelFactory;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.ISearchField;
+import org.rssowl.core.persist.ISearchMark;
+import org.rssowl.core.persist.SearchSpecifier;
+import org.rssowl.core.persist.INews.State;
+import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.reference.NewsReference;
+import org.rssowl.core.util.SearchHit;
+import org.rssowl.ui.internal.SavedSearchService;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests that the incremental updates of {@link SavedSearchService} lead to the
+ * same results as a full search.
+ */
+@SuppressWarnings("nls")
+public class SavedSearchServiceTest {
+  private IModelFactory fFactory;
+  private String fNewsEntityName;
+
+  /**
+   * @throws Exception
+   */
+  @Before
+  public void setUp() throws Exception {
+    Owl.getPersistenceService().recreateSchema();
+    fFactory = Owl.getModelFactory();
+    fNewsEntityName = INews.class.getName();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testIncrementalUpdateEqualsFullSearch() throws Exception {
+    SavedSearchService service = new SavedSearchService();
+    service.stopService();
+
+    IFolder folder = fFactory.createFolder(null, null, "Folder");
+    ISearchMark titleMark = createSearchMark(folder, INews.TITLE, SearchSpecifier.CONTAINS, "foo");
+    ISearchMark stateMark = createSearchMark(folder, INews.STATE, SearchSpecifier.IS, EnumSet.of(State.NEW, State.UNREAD));
+    DynamicDAO.save(folder);
+
+    IFeed feed = fFactory.createFeed(null, new URI("http://www.feed.com"));
+    createNews(feed, "foo 1", State.NEW);
+    createNews(feed, "foo 2", State.READ);
+    createNews(feed, "bar 3", State.NEW);
+    createNews(feed, "bar 4", State.UNREAD);
+    feed = DynamicDAO.save(feed);
+    waitForIndexer();
+
+    List<ISearchMark> marks = new ArrayList<ISearchMark>();
+    marks.add(titleMark);
+    marks.add(stateMark);
+    service.updateSavedSearches(marks);
+    assertSameResults(titleMark);
+    assertSameResults(stateMark);
+
+    List<INews> news = new ArrayList<INews>(feed.getNews());
+    Set<Long> changedNewsIds = new HashSet<Long>();
+
+    /* Add */
+    INews addedNews = createNews(feed, "foo 5", State.NEW);
+    DynamicDAO.save(feed);
+    changedNewsIds.add(addedNews.getId());
+
+    /* Update */
+    news.get(0).setTitle("bar 1");
+    news.get(2).setTitle("foo 3");
+    news.get(3).setState(State.READ);
+    DynamicDAO.saveAll(news.subList(2, 4));
+    DynamicDAO.save(news.get(0));
+    changedNewsIds.add(news.get(0).getId());
+    changedNewsIds.add(news.get(2).getId());
+    changedNewsIds.add(news.get(3).getId());
+
+    /* Delete */
+    changedNewsIds.add(news.get(1).getId());
+    DynamicDAO.delete(news.get(1));
+    waitForIndexer();
+
+    service.updateSavedSearches(marks, changedNewsIds);
+    assertSameResults(titleMark);
+    assertSameResults(stateMark);
+    assertEquals(2, titleMark.getNewsRefs(INews.State.getVisible()).size());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testFullUpdateIfTooManyNewsChanged() throws Exception {
+    IFolder folder = fFactory.createFolder(null, null, "Folder");
+    ISearchMark mark = createSearchMark(folder, INews.TITLE, SearchSpecifier.CONTAINS, "foo");
+    DynamicDAO.save(folder);
+
+    IFeed feed = fFactory.createFeed(null, new URI("http://www.feed.com"));
+    for (int i = 0; i < 4; i++)
+      createNews(feed, "foo " + i, State.NEW);
+    feed = DynamicDAO.save(feed);
+    waitForIndexer();
+
+    /* Allows 2 changed News for an incremental update */
+    SavedSearchService service = new SavedSearchService(2);
+    try {
+      service.updateSavedSearches(true);
+      assertSameResults(mark);
+
+      /* Drop the results, only a full update brings back the unchanged News */
+      mark.setNewsRefs(new EnumMap<INews.State, List<NewsReference>>(INews.State.class));
+
+      List<INews> news = new ArrayList<INews>(feed.getNews().subList(0, 3));
+      for (INews newsItem : news)
+        newsItem.setState(State.UNREAD);
+      DynamicDAO.saveAll(news);
+
+      for (int i = 0; i < 50 && mark.getNewsRefs(INews.State.getVisible()).size() < 4; i++)
+        Thread.sleep(100);
+
+      assertEquals(4, mark.getNewsRefs(INews.State.getVisible()).size());
+      assertSameResults(mark);
+    } finally {
+      service.stopService();
+    }
+  }
+
+  private ISearchMark createSearchMark(IFolder folder, int fieldId, SearchSpecifier specifier, Object value) {
+    ISearchMark mark = fFactory.createSearchMark(null, folder, "Mark");
+    ISearchField field = fFactory.createSearchField(fieldId, fNewsEntityName);
+    fFactory.createSearchCondition(null, mark, field, specifier, value);
+
+    return mark;
+  }
+
+  private INews createNews(IFeed feed, String title, State state) {
+    INews news = fFactory.createNews(null, feed, new Date());
+    news.setTitle(title);
+    news.setState(state);
+
+    return news;
+  }
+
+  private void waitForIndexer() throws InterruptedException {
+    Thread.sleep(500);
+  }
+
+  /* Compares the results of the mark with a full search for each state */
+  private void assertSameResults(ISearchMark mark) {
+    List<SearchHit<NewsReference>> hits = Owl.getPersistenceService().getModelSearch().searchNews(mark.getSearchConditions(), mark.matchAllConditions());
+    for (State state : INews.State.getVisible()) {
+      Set<Long> expected = new HashSet<Long>();
+      for (SearchHit<NewsReference> hit : hits) {
+        if (hit.getData(INews.STATE) == state)
+          expected.add(hit.getResult().getId());
+      }
+
+      Set<Long> actual = new HashSet<Long>();
+      for (NewsReference newsRef : mark.getNewsRefs(EnumSet.of(state)))
+        actual.add(newsRef.getId());
+
+      assertEquals(expected, actual);
+    }
+  }
+}
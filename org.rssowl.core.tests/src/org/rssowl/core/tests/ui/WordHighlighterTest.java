@@ -0,0 +1,121 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.ui.internal.util.ExpandingReader;
+import org.rssowl.ui.internal.util.WordHighlighter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for {@link WordHighlighter}
+ */
+public class WordHighlighterTest {
+  private static final String PRE = "<span>";
+  private static final String POST = "</span>";
+
+  private static final String[] TEXTS = new String[] {
+    "Hello",
+    "<Hello>",
+    "<html>\n<body>\n\t<p>Hello <b>World</b> in <a href=\"http://www.rssowl.org\">RSSOwl.org</a></p></body></html>",
+    "<html\n<body>\n\t<p>Hello <b>World</b> in <a href=\"http://www.rssowl.org\">RSSOwl.org/a></p></body></html>",
+    "a>b World> <World <a>World</a>World",
+    ""
+  };
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSameResultAsExpandingReader() throws Exception {
+    List<List<String>> wordLists = Arrays.asList(
+      Collections.<String> emptyList(),
+      Arrays.asList("world"),
+      Arrays.asList("hello"),
+      Arrays.asList("html"),
+      Arrays.asList("www.rssowl.org"),
+      Arrays.asList("rssowl"),
+      Arrays.asList("World", "RSSOWL", "in"),
+      Arrays.asList("w?rld"),
+      Arrays.asList("rss*", "b"),
+      Arrays.asList("")
+    );
+
+    for (String text : TEXTS) {
+      for (List<String> words : wordLists) {
+        String expected = readFully(new ExpandingReader(new StringReader(text), words, PRE, POST, true));
+        assertEquals(text + " " + words, expected, highlight(text, words));
+      }
+    }
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testCaseInsensitive() throws Exception {
+    String result = highlight("RSSOwl rssowl RSSOWL rssowls", Arrays.asList("rSSowl"));
+
+    assertEquals("<span>RSSOwl</span> <span>rssowl</span> <span>RSSOWL</span> rssowls", result);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testIsEmpty() throws Exception {
+    assertTrue(new WordHighlighter(Collections.<String> emptyList(), PRE, POST).isEmpty());
+    assertTrue(new WordHighlighter(Arrays.asList("www.rssowl.org", ""), PRE, POST).isEmpty());
+    assertFalse(new WordHighlighter(Arrays.asList("rssowl"), PRE, POST).isEmpty());
+    assertFalse(new WordHighlighter(Arrays.asList("rss*"), PRE, POST).isEmpty());
+  }
+
+  private String highlight(String text, List<String> words) {
+    StringBuilder builder = new StringBuilder();
+    new WordHighlighter(words, PRE, POST).highlight(text, builder);
+
+    return builder.toString();
+  }
+
+  private String readFully(Reader reader) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    int ch;
+    while ((ch = reader.read()) != -1)
+      builder.append((char) ch);
+
+    return builder.toString();
+  }
+}
@@ -0,0 +1,161 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.core.util.GroupCommitQueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests methods in GroupCommitQueue.
+ */
+public class GroupCommitQueueTest {
+
+  /* Records the committed Batches and fails if asked to */
+  private static class RecordingQueue extends GroupCommitQueue<Integer> {
+    final List<List<Integer>> fBatches = Collections.synchronizedList(new ArrayList<List<Integer>>());
+    final Set<Integer> fCommitted = Collections.synchronizedSet(new HashSet<Integer>());
+    final RuntimeException fFailure;
+
+    RecordingQueue(long window, int maxBatchSize, RuntimeException failure) {
+      super(window, maxBatchSize);
+      fFailure = failure;
+    }
+
+    @Override
+    protected void commit(List<Integer> items) {
+      fBatches.add(new ArrayList<Integer>(items));
+      if (fFailure != null)
+        throw fFailure;
+
+      fCommitted.addAll(items);
+    }
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testAnnouncedItemsAreCommittedInOneBatch() throws Exception {
+    RecordingQueue queue = new RecordingQueue(60000, 10, null);
+    long start = System.currentTimeMillis();
+    List<Throwable> failures = submitConcurrently(queue, 5);
+
+    assertTrue(failures.isEmpty());
+    assertEquals(1, queue.fBatches.size());
+    assertEquals(5, queue.fBatches.get(0).size());
+    assertEquals(5, queue.fCommitted.size());
+
+    /* The Window is not waited for once all announced Items are submitted */
+    assertTrue(System.currentTimeMillis() - start < 30000);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testBatchesAreLimitedInSize() throws Exception {
+    RecordingQueue queue = new RecordingQueue(60000, 2, null);
+    List<Throwable> failures = submitConcurrently(queue, 7);
+
+    assertTrue(failures.isEmpty());
+    assertEquals(7, queue.fCommitted.size());
+    for (List<Integer> batch : queue.fBatches)
+      assertTrue(batch.size() <= 2);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testFailureIsRethrownInEveryThreadOfTheBatch() throws Exception {
+    IllegalStateException failure = new IllegalStateException();
+    RecordingQueue queue = new RecordingQueue(60000, 10, failure);
+    List<Throwable> failures = submitConcurrently(queue, 5);
+
+    assertEquals(1, queue.fBatches.size());
+    assertEquals(5, failures.size());
+    for (Throwable t : failures)
+      assertSame(failure, t);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testCancelDoesNotDelayBatch() throws Exception {
+    RecordingQueue queue = new RecordingQueue(60000, 10, null);
+    queue.begin();
+    queue.begin();
+    queue.cancel();
+
+    long start = System.currentTimeMillis();
+    queue.submit(Integer.valueOf(1));
+
+    assertTrue(System.currentTimeMillis() - start < 30000);
+    assertEquals(Collections.singletonList(Collections.singletonList(Integer.valueOf(1))), queue.fBatches);
+  }
+
+  /* Announces all Items first, then submits each from its own Thread */
+  private List<Throwable> submitConcurrently(final RecordingQueue queue, int count) throws InterruptedException {
+    final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+    List<Thread> threads = new ArrayList<Thread>(count);
+    for (int i = 0; i < count; i++) {
+      final Integer item = Integer.valueOf(i);
+      queue.begin();
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          try {
+            queue.submit(item);
+
+            /* The Item must be committed once submit returns */
+            if (!queue.fCommitted.contains(item))
+              failures.add(new AssertionError("Not committed: " + item));
+          } catch (RuntimeException e) {
+            failures.add(e);
+          }
+        }
+      });
+    }
+
+    for (Thread thread : threads)
+      thread.start();
+
+    for (Thread thread : threads)
+      thread.join();
+
+    return failures;
+  }
+}
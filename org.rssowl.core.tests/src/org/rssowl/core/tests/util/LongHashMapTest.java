@@ -0,0 +1,97 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.core.util.LongHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests methods in LongHashMap.
+ */
+public class LongHashMapTest {
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testPutGetRemove() throws Exception {
+    LongHashMap<String> map = new LongHashMap<String>();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(1));
+
+    assertNull(map.put(1, "One"));
+    assertNull(map.put(0, "Zero"));
+    assertNull(map.put(-1, "Minus One"));
+    assertEquals("One", map.put(1, "Uno"));
+    assertEquals(3, map.size());
+
+    assertEquals("Uno", map.get(1));
+    assertEquals("Zero", map.get(0));
+    assertEquals("Minus One", map.get(-1));
+    assertTrue(map.containsKey(0));
+    assertFalse(map.containsKey(2));
+
+    assertEquals("Zero", map.remove(0));
+    assertNull(map.remove(0));
+    assertFalse(map.containsKey(0));
+    assertEquals(2, map.size());
+    assertEquals(2, map.values().size());
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(1));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testAgainstHashMap() throws Exception {
+    LongHashMap<Long> map = new LongHashMap<Long>(4);
+    Map<Long, Long> expected = new HashMap<Long, Long>();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 100000; i++) {
+      long key = random.nextInt(5000);
+      if (random.nextInt(3) == 0)
+        assertEquals(expected.remove(key), map.remove(key));
+      else
+        assertEquals(expected.put(key, Long.valueOf(i)), map.put(key, Long.valueOf(i)));
+    }
+
+    assertEquals(expected.size(), map.size());
+    for (long key = 0; key < 5000; key++)
+      assertEquals(expected.get(key), map.get(key));
+  }
+}
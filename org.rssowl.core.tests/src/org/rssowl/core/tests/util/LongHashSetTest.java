@@ -0,0 +1,68 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.core.util.LongHashSet;
+
+/**
+ * Tests methods in LongHashSet.
+ */
+public class LongHashSetTest {
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testAddContainsRemove() throws Exception {
+    LongHashSet set = new LongHashSet();
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(0));
+
+    assertTrue(set.add(0));
+    assertTrue(set.add(Long.MAX_VALUE));
+    assertTrue(set.add(-1));
+    assertFalse(set.add(0));
+    assertEquals(3, set.size());
+
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertTrue(set.contains(-1));
+    assertFalse(set.contains(1));
+
+    assertTrue(set.remove(0));
+    assertFalse(set.remove(0));
+    assertFalse(set.contains(0));
+    assertEquals(2, set.size());
+
+    set.clear();
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(-1));
+  }
+}
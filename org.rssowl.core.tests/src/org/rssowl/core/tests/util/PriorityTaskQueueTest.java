@@ -0,0 +1,153 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.junit.Test;
+import org.rssowl.core.util.ITask;
+import org.rssowl.core.util.PriorityTaskQueue;
+import org.rssowl.core.util.TaskAdapter;
+import org.rssowl.core.util.ITask.Priority;
+
+/**
+ * Tests methods in PriorityTaskQueue.
+ */
+public class PriorityTaskQueueTest {
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testPriorityOrder() throws Exception {
+    PriorityTaskQueue queue = new PriorityTaskQueue(10, 60000);
+    assertTrue(queue.isEmpty());
+    assertNull(queue.poll());
+
+    ITask default1 = createTask(Priority.DEFAULT);
+    ITask short1 = createTask(Priority.SHORT);
+    ITask interactive1 = createTask(Priority.INTERACTIVE);
+    ITask default2 = createTask(Priority.DEFAULT);
+    ITask interactive2 = createTask(Priority.INTERACTIVE);
+
+    queue.put(default1);
+    queue.put(short1);
+    queue.put(interactive1);
+    queue.put(default2);
+    queue.put(interactive2);
+
+    assertEquals(2, queue.size(Priority.INTERACTIVE));
+    assertEquals(1, queue.size(Priority.SHORT));
+    assertEquals(2, queue.size(Priority.DEFAULT));
+    assertTrue(queue.contains(short1));
+
+    assertSame(interactive1, queue.poll());
+    assertSame(interactive2, queue.poll());
+    assertSame(short1, queue.poll());
+    assertSame(default1, queue.poll());
+    assertSame(default2, queue.poll());
+    assertNull(queue.poll());
+    assertTrue(queue.isEmpty());
+    assertFalse(queue.contains(short1));
+
+    queue.put(default1);
+    queue.clear();
+    assertTrue(queue.isEmpty());
+    assertEquals(0, queue.size(Priority.DEFAULT));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testStarvingTaskIsTakenEveryFourthTime() throws Exception {
+    PriorityTaskQueue queue = new PriorityTaskQueue(10, 0);
+
+    ITask default1 = createTask(Priority.DEFAULT);
+    ITask default2 = createTask(Priority.DEFAULT);
+    queue.put(default1);
+    queue.put(default2);
+
+    /* Let the Default Tasks wait longer than the max wait time */
+    Thread.sleep(10);
+
+    ITask[] interactive = new ITask[6];
+    for (int i = 0; i < interactive.length; i++) {
+      interactive[i] = createTask(Priority.INTERACTIVE);
+      queue.put(interactive[i]);
+    }
+
+    assertSame(interactive[0], queue.poll());
+    assertSame(interactive[1], queue.poll());
+    assertSame(interactive[2], queue.poll());
+    assertSame(default1, queue.poll());
+    assertSame(interactive[3], queue.poll());
+    assertSame(interactive[4], queue.poll());
+    assertSame(interactive[5], queue.poll());
+    assertSame(default2, queue.poll());
+    assertTrue(queue.isEmpty());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testWaitTimes() throws Exception {
+    PriorityTaskQueue queue = new PriorityTaskQueue(10, 60000);
+    assertEquals(0, queue.getAverageWaitTime(Priority.DEFAULT));
+    assertEquals(0, queue.getCurrentWaitTime(Priority.DEFAULT));
+
+    queue.put(createTask(Priority.DEFAULT));
+    Thread.sleep(20);
+
+    assertTrue(queue.getCurrentWaitTime(Priority.DEFAULT) >= 20);
+    assertEquals(0, queue.getCurrentWaitTime(Priority.INTERACTIVE));
+
+    queue.poll();
+    assertTrue(queue.getAverageWaitTime(Priority.DEFAULT) >= 20);
+    assertEquals(0, queue.getAverageWaitTime(Priority.INTERACTIVE));
+    assertEquals(0, queue.getCurrentWaitTime(Priority.DEFAULT));
+  }
+
+  private ITask createTask(final Priority priority) {
+    return new TaskAdapter() {
+      public IStatus run(IProgressMonitor monitor) {
+        return Status.OK_STATUS;
+      }
+
+      @Override
+      public Priority getPriority() {
+        return priority;
+      }
+    };
+  }
+}
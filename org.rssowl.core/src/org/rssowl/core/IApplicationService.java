@@ -44,6 +44,10 @@ public interface IApplicationService {
    * one.</li>
    * <li>Running the retention policy.</li>
    * <li>Updating the ConditionalGet object associated with the feed.</li>
+   * <p>
+   * Implementations must allow this method to be called concurrently for
+   * different feeds.
+   * </p>
    *
    * @param bookMark The BookMark that contains the feed that has been reloaded.
    * @param interpretedFeed The IFeed object that has been supplied by the
@@ -38,6 +38,7 @@ import org.rssowl.core.internal.persist.service.DatabaseEvent;
 import org.rssowl.core.internal.persist.service.DatabaseListener;
 import org.rssowl.core.internal.persist.service.EventManager;
 import org.rssowl.core.internal.persist.service.EventsMap;
+import org.rssowl.core.internal.persist.service.FeedLocks;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.IBookMark;
 import org.rssowl.core.persist.IConditionalGet;
@@ -47,10 +48,14 @@ import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.dao.DynamicDAO;
 import org.rssowl.core.persist.dao.INewsDAO;
 import org.rssowl.core.persist.event.NewsEvent;
+import org.rssowl.core.persist.event.runnable.EventRunnable;
 import org.rssowl.core.persist.event.runnable.NewsEventRunnable;
+import org.rssowl.core.persist.reference.FeedLinkReference;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.IDGenerator;
+import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.util.DateUtils;
+import org.rssowl.core.util.GroupCommitQueue;
 import org.rssowl.core.util.RetentionStrategy;
 
 import com.db4o.ObjectContainer;
@@ -59,6 +64,7 @@ import com.db4o.ext.Db4oException;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
@@ -71,10 +77,68 @@ import java.util.concurrent.locks.ReadWriteLock;
  * db4o implementation of IApplicationService
  */
 public class ApplicationServiceImpl implements IApplicationService {
+
+  /* Commit the reloads of several Feeds in one transaction if set */
+  private static final boolean GROUP_COMMIT = Boolean.getBoolean("rssowl.groupcommit"); //$NON-NLS-1$
+
+  /* Max. time in ms a group commit waits for other Feeds to be merged */
+  private static final long GROUP_COMMIT_WINDOW = Long.getLong("rssowl.groupcommit.window", 100).longValue(); //$NON-NLS-1$
+
+  /* Max. number of Feeds that are committed in one group commit */
+  private static final int GROUP_COMMIT_MAX_FEEDS = Integer.getInteger("rssowl.groupcommit.maxfeeds", 50).intValue(); //$NON-NLS-1$
+
+  /* A merged Feed that is waiting to be saved and committed */
+  private static final class FeedReload {
+    final IFeed fFeed;
+    final IBookMark fBookMark;
+    final boolean fBookMarkUpdated;
+    final List<INews> fNewNewsAdded;
+    final MergeResult fMergeResult;
+    final IConditionalGet fConditionalGet;
+    final boolean fDeleteConditionalGet;
+
+    /* Only accessed while holding the write lock */
+    boolean fNewsLocked;
+
+    FeedReload(IFeed feed, IBookMark bookMark, boolean bookMarkUpdated, List<INews> newNewsAdded, MergeResult mergeResult, IConditionalGet conditionalGet, boolean deleteConditionalGet) {
+      fFeed = feed;
+      fBookMark = bookMark;
+      fBookMarkUpdated = bookMarkUpdated;
+      fNewNewsAdded = newNewsAdded;
+      fMergeResult = mergeResult;
+      fConditionalGet = conditionalGet;
+      fDeleteConditionalGet = deleteConditionalGet;
+    }
+  }
+
   private volatile ObjectContainer fDb;
   private volatile ReadWriteLock fLock;
   private volatile Lock fWriteLock;
 
+  /*
+   * Reloads waiting for a group commit. The first thread that submits a reload
+   * waits for the Feeds that are still being merged and then commits all
+   * queued reloads at once on behalf of the other threads. The events of all
+   * reloads are fired as one batch from that thread, once it has released the
+   * Lock of its own Feed.
+   */
+  private final GroupCommitQueue<FeedReload> fGroupCommitQueue = new GroupCommitQueue<FeedReload>(GROUP_COMMIT_WINDOW, GROUP_COMMIT_MAX_FEEDS) {
+    @Override
+    protected void commit(List<FeedReload> reloads) {
+      ApplicationServiceImpl.this.commit(reloads);
+
+      List<EventRunnable<?>> events = fGroupCommitEvents.get();
+      if (events == null) {
+        events = new ArrayList<EventRunnable<?>>();
+        fGroupCommitEvents.set(events);
+      }
+      events.addAll(DBHelper.cleanUpEvents());
+    }
+  };
+
+  /* Events of the group commits done by the current thread */
+  private final ThreadLocal<List<EventRunnable<?>>> fGroupCommitEvents = new ThreadLocal<List<EventRunnable<?>>>();
+
   /**
    * Creates an instance of this class.
    */
@@ -98,11 +162,24 @@ public class ApplicationServiceImpl implements IApplicationService {
    * org.rssowl.core.model.persist.IConditionalGet, boolean)
    */
   public final void handleFeedReload(IBookMark bookMark, IFeed emptyFeed, IConditionalGet conditionalGet, boolean deleteConditionalGet) {
-    fWriteLock.lock();
-    MergeResult mergeResult = null;
+    FeedLinkReference feedRef = bookMark.getFeedLinkReference();
+
+    /*
+     * The merge and the retention only touch the objects of the reloaded Feed.
+     * They run under a lock for this Feed only, so that Feeds that are
+     * reloaded at the same time are merged concurrently. The global write lock
+     * is only acquired to save and commit the result. Other code that changes
+     * News acquires the same lock for their Feeds, see FeedLocks.
+     */
+    Lock feedLock = FeedLocks.getLock(feedRef.getLinkAsText());
+    feedLock.lock();
+    boolean merging = GROUP_COMMIT;
+    if (merging)
+      fGroupCommitQueue.begin();
+
     try {
       /* Resolve reloaded Feed */
-      IFeed feed = bookMark.getFeedLinkReference().resolve();
+      IFeed feed = feedRef.resolve();
 
       /* Feed could have been deleted meanwhile! */
       if (feed == null)
@@ -117,16 +194,17 @@ public class ApplicationServiceImpl implements IApplicationService {
       }
 
       /* Merge with existing */
-      mergeResult = feed.mergeAndCleanUp(emptyFeed);
+      MergeResult mergeResult = feed.mergeAndCleanUp(emptyFeed);
       List<INews> newNewsAdded = getNewNewsAdded(feed);
 
       /* Update Date of last added news in Bookmark */
+      boolean bookMarkUpdated = false;
       if (!newNewsAdded.isEmpty()) {
         Date mostRecentDate = DateUtils.getRecentDate(newNewsAdded);
         Date previousMostRecentDate = bookMark.getMostRecentNewsDate();
         if (previousMostRecentDate == null || mostRecentDate.after(previousMostRecentDate)) {
           bookMark.setMostRecentNewsDate(mostRecentDate);
-          fDb.set(bookMark);
+          bookMarkUpdated = true;
         }
       }
 
@@ -138,43 +216,97 @@ public class ApplicationServiceImpl implements IApplicationService {
       for (INews news : deletedNews)
         mergeResult.addUpdatedObject(news);
 
-      for (INews news : newNewsAdded) {
-        String description = ((News) news).getTransientDescription();
-        if (description != null) {
-          IDGenerator generator = Owl.getPersistenceService().getIDGenerator();
-          long id;
-          if (generator instanceof DB4OIDGenerator)
-            id = ((DB4OIDGenerator) generator).getNext(false);
-          else
-            id = generator.getNext();
-
-          news.setId(id);
-          mergeResult.addUpdatedObject(new Description(news, description));
-        }
-      }
+      FeedReload reload = new FeedReload(feed, bookMark, bookMarkUpdated, newNewsAdded, mergeResult, conditionalGet, deleteConditionalGet);
+
+      /* Commit together with other Feeds that have been merged meanwhile */
+      if (GROUP_COMMIT) {
+        merging = false;
+        fGroupCommitQueue.submit(reload);
+      } else
+        commit(Collections.singletonList(reload));
+    } catch (Db4oException e) {
+      throw new PersistenceException(e);
+    } finally {
+      if (merging)
+        fGroupCommitQueue.cancel();
+
+      feedLock.unlock();
+
+      /* Fire the events of group commits done on behalf of other Feeds too */
+      if (GROUP_COMMIT)
+        fireGroupCommitEvents();
+    }
+    DBHelper.cleanUpAndFireEvents();
+  }
+
+  private void fireGroupCommitEvents() {
+    List<EventRunnable<?>> events = fGroupCommitEvents.get();
+    if (events != null) {
+      fGroupCommitEvents.remove();
+      DBHelper.fireEvents(events);
+    }
+  }
 
+  /* Saves the given reloads and commits them in one transaction */
+  private void commit(List<FeedReload> reloads) {
+    fWriteLock.lock();
+    try {
       try {
-        lockNewsObjects(mergeResult);
-        saveFeed(mergeResult);
-
-        /* Update Conditional GET */
-        if (conditionalGet != null) {
-          if (deleteConditionalGet)
-            fDb.delete(conditionalGet);
-          else
-            fDb.ext().set(conditionalGet, 1);
-        }
+        for (FeedReload reload : reloads)
+          save(reload);
+
         DBHelper.preCommit(fDb);
         fDb.commit();
       } finally {
-        unlockNewsObjects(mergeResult);
+        for (FeedReload reload : reloads) {
+          if (reload.fNewsLocked)
+            unlockNewsObjects(reload.fMergeResult);
+        }
       }
     } catch (Db4oException e) {
-      DBHelper.rollbackAndPE(fDb, e);
+      throw DBHelper.rollbackAndPE(fDb, e);
     } finally {
       fWriteLock.unlock();
     }
-    DBHelper.cleanUpAndFireEvents();
+  }
+
+  private void save(FeedReload reload) {
+
+    /* Feed could have been deleted while it was merged */
+    if (!fDb.ext().isStored(reload.fFeed))
+      return;
+
+    if (reload.fBookMarkUpdated)
+      fDb.set(reload.fBookMark);
+
+    MergeResult mergeResult = reload.fMergeResult;
+    for (INews news : reload.fNewNewsAdded) {
+      String description = ((News) news).getTransientDescription();
+      if (description != null) {
+        IDGenerator generator = Owl.getPersistenceService().getIDGenerator();
+        long id;
+        if (generator instanceof DB4OIDGenerator)
+          id = ((DB4OIDGenerator) generator).getNext(false);
+        else
+          id = generator.getNext();
+
+        news.setId(id);
+        mergeResult.addUpdatedObject(new Description(news, description));
+      }
+    }
+
+    lockNewsObjects(mergeResult);
+    reload.fNewsLocked = true;
+    saveFeed(mergeResult);
+
+    /* Update Conditional GET */
+    IConditionalGet conditionalGet = reload.fConditionalGet;
+    if (conditionalGet != null) {
+      if (reload.fDeleteConditionalGet)
+        fDb.delete(conditionalGet);
+      else
+        fDb.ext().set(conditionalGet, 1);
+    }
   }
 
   private void lockNewsObjects(MergeResult mergeResult) {
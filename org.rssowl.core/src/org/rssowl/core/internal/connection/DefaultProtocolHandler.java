@@ -33,6 +33,7 @@ import org.apache.commons.httpclient.auth.AuthScope;
 import org.apache.commons.httpclient.auth.AuthState;
 import org.apache.commons.httpclient.cookie.CookiePolicy;
 import org.apache.commons.httpclient.methods.GetMethod;
+import org.apache.commons.httpclient.params.HttpConnectionParams;
 import org.apache.commons.httpclient.protocol.DefaultProtocolSocketFactory;
 import org.apache.commons.httpclient.protocol.Protocol;
 import org.apache.commons.httpclient.protocol.ProtocolSocketFactory;
@@ -108,12 +109,22 @@ public class DefaultProtocolHandler implements IProtocolHandler {
   /* The Default Connection Timeout */
   private static final int DEFAULT_CON_TIMEOUT = 30000;
 
+  /* Max. number of pooled Connections per Host */
+  private static final int MAX_CONNECTIONS_PER_HOST = 4;
+
+  /* Max. number of pooled Connections in total */
+  private static final int MAX_TOTAL_CONNECTIONS = 32;
+
+  /* Time in millis after which idle pooled Connections are closed */
+  private static final int CON_IDLE_TIMEOUT = 60000;
+
   /* Timeout for loading a Favicon */
   private static final int FAVICON_CON_TIMEOUT = 5000;
 
   private static final String USER_AGENT = getOwlAgent();
   private static boolean fgSSLInitialized;
   private static boolean fgFeedProtocolInitialized;
+  private static PooledHttpConnectionManager fgConnectionManager;
 
   /*
    * @see org.rssowl.core.connection.IProtocolHandler#reload(java.net.URI,
@@ -146,8 +157,16 @@ public class DefaultProtocolHandler implements IProtocolHandler {
       return null;
     }
 
-    /* Pass the Stream to the Interpreter */
-    Owl.getInterpreter().interpret(inS, feed);
+    /* Pass the Stream to the Interpreter and make sure the Connection is released */
+    try {
+      Owl.getInterpreter().interpret(inS, feed);
+    } finally {
+      try {
+        inS.close();
+      } catch (IOException e) {
+        /* Ignore */
+      }
+    }
 
     return Pair.create(feed, conditionalGet);
   }
@@ -187,15 +206,18 @@ public class DefaultProtocolHandler implements IProtocolHandler {
         return null;
 
       InputStream fis = openStream(faviconLink, properties);
+      try {
+        ByteArrayOutputStream fos = new ByteArrayOutputStream();
+        byte buffer[] = new byte[0xffff];
+        int nbytes;
 
-      ByteArrayOutputStream fos = new ByteArrayOutputStream();
-      byte buffer[] = new byte[0xffff];
-      int nbytes;
-
-      while ((nbytes = fis.read(buffer)) != -1)
-        fos.write(buffer, 0, nbytes);
+        while ((nbytes = fis.read(buffer)) != -1)
+          fos.write(buffer, 0, nbytes);
 
-      return fos.toByteArray();
+        return fos.toByteArray();
+      } finally {
+        fis.close();
+      }
     } catch (URISyntaxException e) {
       /* Ignore */
     } catch (ConnectionException e) {
@@ -315,9 +337,17 @@ public class DefaultProtocolHandler implements IProtocolHandler {
       if (inS != null)
         inS = pipeStream(inS, getMethod);
     } catch (IOException e) {
+      if (getMethod != null)
+        getMethod.releaseConnection();
+
       throw new ConnectionException(Activator.getDefault().createErrorStatus(e.getMessage(), e));
     }
 
+    /* Release the pooled Connection if the response is not passed to the caller */
+    int statusCode = getMethod.getStatusCode();
+    if (statusCode == HTTP_STATUS_NOT_MODIFIED || statusCode >= HTTP_ERRORS || inS == null)
+      getMethod.releaseConnection();
+
     /* In case authentication required / failed */
     if (getMethod.getStatusCode() == HTTP_ERROR_AUTH_REQUIRED) {
       AuthState hostAuthState = getMethod.getHostAuthState();
@@ -446,18 +476,39 @@ public class DefaultProtocolHandler implements IProtocolHandler {
     if (properties != null && properties.containsKey(IConnectionPropertyConstants.CON_TIMEOUT))
       conTimeout = (Integer) properties.get(IConnectionPropertyConstants.CON_TIMEOUT);
 
-    /* Create a new HttpClient */
-    HttpClient client = new HttpClient();
+    /*
+     * Create a new HttpClient on top of the shared connection manager. The
+     * HttpClient itself is cheap and keeps the Proxy and Credentials of this
+     * request, while connections are pooled and reused.
+     */
+    HttpClient client = new HttpClient(getConnectionManager());
 
     /* Socket Timeout - Max. time to wait for an answer */
-    client.getHttpConnectionManager().getParams().setSoTimeout(conTimeout);
+    client.getParams().setSoTimeout(conTimeout);
 
     /* Connection Timeout - Max. time to wait for a connection */
-    client.getHttpConnectionManager().getParams().setConnectionTimeout(conTimeout);
+    client.getHostConfiguration().getParams().setIntParameter(HttpConnectionParams.CONNECTION_TIMEOUT, conTimeout);
+
+    /* Max. time to wait for a free connection from the pool */
+    client.getParams().setConnectionManagerTimeout(conTimeout);
 
     return client;
   }
 
+  /**
+   * Returns the connection manager that is shared by all connections opened
+   * from this protocol handler. It can be used to monitor how often
+   * connections are reused.
+   *
+   * @return the shared connection manager.
+   */
+  public static synchronized PooledHttpConnectionManager getConnectionManager() {
+    if (fgConnectionManager == null)
+      fgConnectionManager = new PooledHttpConnectionManager(MAX_CONNECTIONS_PER_HOST, MAX_TOTAL_CONNECTIONS, CON_IDLE_TIMEOUT);
+
+    return fgConnectionManager;
+  }
+
   private GetMethod initConnection(URI link, Map<Object, Object> properties) throws IOException {
 
     /* Create the Get Method. Wrap any RuntimeException into an IOException */
@@ -115,8 +115,16 @@ public class HttpConnectionInputStream extends FilterInputStream implements ICon
 
   @Override
   public void close() throws IOException {
-    super.close();
-    fGetMethod.releaseConnection();
+
+    /* Do not read the remaining response into a canceled pooled Connection */
+    if (fMonitor != null && fMonitor.isCanceled())
+      fGetMethod.abort();
+
+    try {
+      super.close();
+    } finally {
+      fGetMethod.releaseConnection();
+    }
   }
 
   @Override
@@ -0,0 +1,146 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.connection;
+
+import org.apache.commons.httpclient.ConnectionPoolTimeoutException;
+import org.apache.commons.httpclient.HostConfiguration;
+import org.apache.commons.httpclient.HttpConnection;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.apache.commons.httpclient.params.HttpConnectionParams;
+import org.apache.commons.httpclient.util.IdleConnectionTimeoutThread;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A <code>MultiThreadedHttpConnectionManager</code> that is shared by all
+ * connections of the <code>DefaultProtocolHandler</code>. Connections to the
+ * same Host are kept open and reused for subsequent requests, bounded by a
+ * maximum per Host and in total. Connections that are idle for too long are
+ * closed by a background Thread.
+ * <p>
+ * Since connections are shared, the connection timeout can not be set on the
+ * connection manager for each request. Instead, it is read from the
+ * <code>HostParams</code> of the <code>HostConfiguration</code> used for the
+ * request, if set.
+ * </p>
+ * <p>
+ * The manager keeps track of the number of requested and reused connections to
+ * allow to monitor how effective the pooling is.
+ * </p>
+ */
+public class PooledHttpConnectionManager extends MultiThreadedHttpConnectionManager {
+
+  /* Interval in millis to check for idle Connections */
+  private static final int IDLE_CHECK_INTERVAL = 10000;
+
+  private final IdleConnectionTimeoutThread fIdleConnectionThread;
+  private final AtomicLong fRequestedCount = new AtomicLong();
+  private final AtomicLong fReusedCount = new AtomicLong();
+
+  /**
+   * @param maxConnectionsPerHost The maximum number of Connections to a single
+   * Host.
+   * @param maxTotalConnections The maximum number of Connections in total.
+   * @param idleTimeout The time in millis after which idle Connections are
+   * closed.
+   */
+  public PooledHttpConnectionManager(int maxConnectionsPerHost, int maxTotalConnections, long idleTimeout) {
+    HttpConnectionManagerParams params = getParams();
+    params.setDefaultMaxConnectionsPerHost(maxConnectionsPerHost);
+    params.setMaxTotalConnections(maxTotalConnections);
+
+    fIdleConnectionThread = new IdleConnectionTimeoutThread();
+    fIdleConnectionThread.setName("Idle HTTP Connection Timeout"); //$NON-NLS-1$
+    fIdleConnectionThread.setConnectionTimeout(idleTimeout);
+    fIdleConnectionThread.setTimeoutInterval(IDLE_CHECK_INTERVAL);
+    fIdleConnectionThread.addConnectionManager(this);
+    fIdleConnectionThread.start();
+  }
+
+  /*
+   * @see org.apache.commons.httpclient.MultiThreadedHttpConnectionManager#getConnectionWithTimeout(org.apache.commons.httpclient.HostConfiguration,
+   * long)
+   */
+  @Override
+  public HttpConnection getConnectionWithTimeout(HostConfiguration hostConfiguration, long timeout) throws ConnectionPoolTimeoutException {
+    HttpConnection connection = super.getConnectionWithTimeout(hostConfiguration, timeout);
+
+    /* A pooled Connection is still open */
+    fRequestedCount.incrementAndGet();
+    if (connection.isOpen())
+      fReusedCount.incrementAndGet();
+
+    /* Apply Connection Timeout of this request */
+    Object conTimeout = hostConfiguration.getParams().getParameter(HttpConnectionParams.CONNECTION_TIMEOUT);
+    if (conTimeout instanceof Integer)
+      connection.getParams().setConnectionTimeout((Integer) conTimeout);
+
+    return connection;
+  }
+
+  /*
+   * @see org.apache.commons.httpclient.MultiThreadedHttpConnectionManager#shutdown()
+   */
+  @Override
+  public synchronized void shutdown() {
+    fIdleConnectionThread.shutdown();
+    super.shutdown();
+  }
+
+  /**
+   * @return the number of Connections that have been requested from this
+   * manager.
+   */
+  public long getRequestedCount() {
+    return fRequestedCount.get();
+  }
+
+  /**
+   * @return the number of requested Connections that have been reused from
+   * the pool instead of opening a new one.
+   */
+  public long getReusedCount() {
+    return fReusedCount.get();
+  }
+
+  /**
+   * @return the ratio of reused Connections to all requested Connections
+   * between <code>0</code> and <code>1</code>.
+   */
+  public double getReuseRate() {
+    long requested = fRequestedCount.get();
+    return requested > 0 ? (double) fReusedCount.get() / requested : 0;
+  }
+
+  /*
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  @SuppressWarnings("nls")
+  public String toString() {
+    return "PooledHttpConnectionManager (Requested: " + getRequestedCount() + ", Reused: " + getReusedCount() + ", In Pool: " + getConnectionsInPool() + ")";
+  }
+}
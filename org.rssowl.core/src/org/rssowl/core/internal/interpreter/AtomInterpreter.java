@@ -70,26 +70,43 @@ public class AtomInterpreter extends BasicInterpreter {
     processFeed(root, feed);
   }
 
-  private void processFeed(Element element, IFeed feed) {
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#startInterpretation(org.jdom.Element,
+   * org.rssowl.core.persist.IFeed)
+   */
+  @Override
+  protected void startInterpretation(Element root, IFeed feed) {
+    super.startInterpretation(root, feed);
 
-    /* Interpret Attributes */
-    List< ? > attributes = element.getAttributes();
-    for (Iterator< ? > iter = attributes.iterator(); iter.hasNext();) {
-      Attribute attribute = (Attribute) iter.next();
-      String name = attribute.getName();
+    /* Entries inherit the Base of the Feed */
+    processFeedAttributes(root, feed);
+  }
 
-      /* Check wether this Attribute is to be processed by a Contribution */
-      if (processAttributeExtern(attribute, feed))
-        continue;
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#isNewsElement(org.jdom.Element)
+   */
+  @Override
+  protected boolean isNewsElement(Element element) {
+    if (!"entry".equals(element.getName().toLowerCase())) //$NON-NLS-1$
+      return false;
 
-      /* Version */
-      else if ("version".equals(name)) //$NON-NLS-1$
-        feed.setFormat(buildFormat("Atom", attribute.getValue())); //$NON-NLS-1$
+    Element root = element.getParentElement();
+    return root != null && root.isRootElement() && !hasElementHandler(element);
+  }
 
-      /* Language */
-      else if ("lang".equals(name)) //$NON-NLS-1$
-        feed.setLanguage(attribute.getValue());
-    }
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#interpretNews(org.jdom.Element,
+   * org.rssowl.core.persist.IFeed)
+   */
+  @Override
+  protected void interpretNews(Element element, IFeed feed) {
+    processEntry(element, feed);
+  }
+
+  private void processFeed(Element element, IFeed feed) {
+
+    /* Interpret Attributes */
+    processFeedAttributes(element, feed);
 
     /* Interpret Children */
     List< ? > channelChildren = element.getChildren();
@@ -167,6 +184,26 @@ public class AtomInterpreter extends BasicInterpreter {
     }
   }
 
+  private void processFeedAttributes(Element element, IFeed feed) {
+    List< ? > attributes = element.getAttributes();
+    for (Iterator< ? > iter = attributes.iterator(); iter.hasNext();) {
+      Attribute attribute = (Attribute) iter.next();
+      String name = attribute.getName();
+
+      /* Check wether this Attribute is to be processed by a Contribution */
+      if (processAttributeExtern(attribute, feed))
+        continue;
+
+      /* Version */
+      else if ("version".equals(name)) //$NON-NLS-1$
+        feed.setFormat(buildFormat("Atom", attribute.getValue())); //$NON-NLS-1$
+
+      /* Language */
+      else if ("lang".equals(name)) //$NON-NLS-1$
+        feed.setLanguage(attribute.getValue());
+    }
+  }
+
   private void processEntry(Element element, IFeed feed) {
     INews news = Owl.getModelFactory().createNews(null, feed, new Date(System.currentTimeMillis() - (fNewsCounter++ * 1)));
     news.setBase(feed.getBase());
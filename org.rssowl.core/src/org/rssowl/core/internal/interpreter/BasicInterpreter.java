@@ -30,6 +30,7 @@ import org.rssowl.core.Owl;
 import org.rssowl.core.interpreter.IElementHandler;
 import org.rssowl.core.interpreter.IFormatInterpreter;
 import org.rssowl.core.interpreter.INamespaceHandler;
+import org.rssowl.core.persist.IFeed;
 import org.rssowl.core.persist.IPersistable;
 
 import java.util.Iterator;
@@ -83,6 +84,70 @@ public abstract class BasicInterpreter implements IFormatInterpreter {
     fRootElementName = rootElementName;
   }
 
+  /**
+   * Prepares this Interpreter to interpret single News Elements using
+   * {@link #interpretNews(Element, IFeed)} while the Document is still being
+   * parsed. Only the Attributes of the given Root-Element are complete at this
+   * point. Subclasses that need more than the default Namespace and the name of
+   * the Root-Element to interpret a News should override.
+   *
+   * @param root The Root-Element of the Document that is being parsed.
+   * @param feed The Feed the News are interpreted into.
+   */
+  protected void startInterpretation(Element root, IFeed feed) {
+    setDefaultNamespaceUri(root.getNamespace().getURI());
+    setRootElementName(root.getName());
+  }
+
+  /**
+   * Returns <code>TRUE</code> if the given Element has been parsed completly
+   * and is a News that would be interpreted by this Interpreter as part of
+   * {@link IFormatInterpreter#interpret(org.jdom.Document, IFeed)}. Such an
+   * Element can be passed to {@link #interpretNews(Element, IFeed)} and removed
+   * from the Document right away. The default implementation returns
+   * <code>FALSE</code>.
+   *
+   * @param element The Element to check.
+   * @return TRUE in case the Element is a News that can be interpreted on its
+   * own, FALSE otherwise.
+   */
+  protected boolean isNewsElement(Element element) {
+    return false;
+  }
+
+  /**
+   * Interprets the given News Element into the Feed. Only called for Elements
+   * that {@link #isNewsElement(Element)} accepted.
+   *
+   * @param element The News Element to interpret.
+   * @param feed The Feed the News is interpreted into.
+   */
+  protected void interpretNews(Element element, IFeed feed) {
+  /* Nothing to do here */
+  }
+
+  /**
+   * Check wether a contributed Element Handler or Namespace Handler would
+   * process the given Element in {@link #processElementExtern(Element, IPersistable)}.
+   *
+   * @param element The Element to check.
+   * @return TRUE in case a Handler is provided for this Element, FALSE
+   * otherwise.
+   */
+  protected boolean hasElementHandler(Element element) {
+    String namespaceURI = element.getNamespaceURI();
+
+    /* Contributed Element Handlers */
+    if (getDefaultNamespaceUri().equals(namespaceURI))
+      return Owl.getInterpreter().getElementHandler(element.getName().toLowerCase(), getRootElementName()) != null;
+
+    /* Contributed Namespace Handlers */
+    else if (namespaceURI != null)
+      return Owl.getInterpreter().getNamespaceHandler(namespaceURI) != null;
+
+    return false;
+  }
+
   /**
    * Build a Format identifier from the given Format and Version.
    * 
@@ -25,13 +25,16 @@
 package org.rssowl.core.internal.interpreter;
 
 import org.jdom.Document;
+import org.jdom.Element;
 import org.jdom.JDOMException;
 import org.jdom.input.JDOMParseException;
 import org.jdom.input.SAXBuilder;
+import org.jdom.input.SAXHandler;
 import org.rssowl.core.internal.Activator;
 import org.rssowl.core.interpreter.IXMLParser;
 import org.rssowl.core.interpreter.ParserException;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.ext.EntityResolver2;
 
 import java.io.BufferedInputStream;
@@ -54,6 +57,56 @@ public class DefaultSaxParserImpl implements IXMLParser {
   /* DTD to use for all XMLs */
   private static final String DEFAULT_DTD = "entities.dtd";
 
+  /**
+   * Callback to interpret News Elements while the Document is still being
+   * parsed.
+   */
+  interface NewsElementListener {
+
+    /**
+     * @param element An Element that has just been parsed completly.
+     * @return TRUE in case the Element is a News that should be passed to
+     * {@link #newsElementParsed(Element)}, FALSE otherwise.
+     */
+    boolean isNewsElement(Element element);
+
+    /**
+     * Called for every Element accepted by {@link #isNewsElement(Element)}. The
+     * Element is removed from the Document after this method returns.
+     *
+     * @param element The parsed News Element.
+     */
+    void newsElementParsed(Element element);
+
+    /**
+     * Called before the Document is parsed a second time with the platforms
+     * default encoding. Everything that was done for the News Elements of the
+     * first run has to be undone.
+     */
+    void reset();
+  }
+
+  /* A SAXHandler that removes News Elements as soon as they are parsed */
+  private static class StreamingSAXHandler extends SAXHandler {
+    private final NewsElementListener fListener;
+
+    StreamingSAXHandler(SAXBuilder builder, NewsElementListener listener) {
+      super(builder.getFactory());
+      fListener = listener;
+    }
+
+    @Override
+    public void endElement(String namespaceURI, String localName, String qName) throws SAXException {
+      Element element = getCurrentElement();
+      super.endElement(namespaceURI, localName, qName);
+
+      if (fListener.isNewsElement(element)) {
+        fListener.newsElementParsed(element);
+        element.detach();
+      }
+    }
+  }
+
   /* A Stream that overrides close() to do nothing */
   private static class KeepAliveInputStream extends BufferedInputStream {
     KeepAliveInputStream(InputStream in) {
@@ -81,9 +134,27 @@ public class DefaultSaxParserImpl implements IXMLParser {
    * @see org.rssowl.core.interpreter.ISAXParser#parse(java.io.InputStream)
    */
   public Document parse(InputStream inS) throws ParserException {
+    return parse(inS, null);
+  }
+
+  /**
+   * Parses the given Stream into a Document like {@link #parse(InputStream)}.
+   * In addition, any News Element is passed to the given Listener as soon as it
+   * has been parsed and then removed from the Document. This allows to
+   * interpret the News of large Feeds one by one without keeping them all in
+   * memory.
+   *
+   * @param inS The Stream to parse.
+   * @param listener The Listener for parsed News Elements or <code>null</code>
+   * if none.
+   * @return The parsed Document without the News Elements that have been
+   * passed to the Listener.
+   * @throws ParserException In case of an error while parsing.
+   */
+  Document parse(InputStream inS, NewsElementListener listener) throws ParserException {
     Document document = null;
     Exception ex = null;
-    SAXBuilder builder = getBuilder();
+    SAXBuilder builder = getBuilder(listener);
 
     /* Set a Mark to support a 2d Run */
     KeepAliveInputStream keepAliveIns = new KeepAliveInputStream(inS);
@@ -112,6 +183,9 @@ public class DefaultSaxParserImpl implements IXMLParser {
 
       /* In case reset-operation was successfull */
       if (reset) {
+        if (listener != null)
+          listener.reset();
+
         try {
           document = builder.build(new InputStreamReader(keepAliveIns));
         } catch (JDOMException e) {
@@ -137,8 +211,17 @@ public class DefaultSaxParserImpl implements IXMLParser {
     return document;
   }
 
-  private SAXBuilder getBuilder() {
-    SAXBuilder builder = new SAXBuilder();
+  private SAXBuilder getBuilder(final NewsElementListener listener) {
+    SAXBuilder builder;
+    if (listener != null) {
+      builder = new SAXBuilder() {
+        @Override
+        protected SAXHandler createContentHandler() {
+          return new StreamingSAXHandler(this, listener);
+        }
+      };
+    } else
+      builder = new SAXBuilder();
 
     /* Support Java Encoding Names */
     builder.setFeature(ALLOW_JAVA_ENCODINGS, true);
@@ -33,8 +33,10 @@ import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.jdom.Document;
+import org.jdom.Element;
 import org.jdom.input.DOMBuilder;
 import org.rssowl.core.internal.Activator;
+import org.rssowl.core.internal.interpreter.DefaultSaxParserImpl.NewsElementListener;
 import org.rssowl.core.interpreter.IElementHandler;
 import org.rssowl.core.interpreter.IFormatInterpreter;
 import org.rssowl.core.interpreter.IInterpreterService;
@@ -46,6 +48,7 @@ import org.rssowl.core.interpreter.ParserException;
 import org.rssowl.core.interpreter.UnknownFormatException;
 import org.rssowl.core.persist.IEntity;
 import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.INews;
 import org.rssowl.core.util.ExtensionUtils;
 
 import java.io.InputStream;
@@ -87,6 +90,77 @@ public class InterpreterServiceImpl implements IInterpreterService {
   /* ID for ElementHandler Contributions */
   private static final String ELHANDLER_EXTENSION_POINT = "org.rssowl.core.ElementHandler"; //$NON-NLS-1$
 
+  /* Interpret News while the Document is still being parsed */
+  private static final boolean STREAMING_INTERPRETATION = Boolean.parseBoolean(System.getProperty("rssowl.streaminginterpreter", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+  /* Interprets News Elements into a Feed while the Document is parsed */
+  private class StreamingNewsInterpreter implements NewsElementListener {
+    private final IFeed fFeed;
+    private final int fInitialNewsCount;
+    private BasicInterpreter fInterpreter;
+    private boolean fStarted;
+
+    StreamingNewsInterpreter(IFeed feed) {
+      fFeed = feed;
+      fInitialNewsCount = feed.getNews().size();
+    }
+
+    public boolean isNewsElement(Element element) {
+
+      /* Determine the Interpreter from the Root-Element */
+      if (!fStarted) {
+        fStarted = true;
+
+        Element root = element;
+        while (root.getParentElement() != null)
+          root = root.getParentElement();
+
+        IFormatInterpreter interpreter = fFormatInterpreters.get(root.getName().toLowerCase());
+        if (interpreter instanceof BasicInterpreter) {
+          fInterpreter = newInstance((BasicInterpreter) interpreter);
+          if (fInterpreter != null)
+            fInterpreter.startInterpretation(root, fFeed);
+        }
+      }
+
+      return fInterpreter != null && fInterpreter.isNewsElement(element);
+    }
+
+    public void newsElementParsed(Element element) {
+      fInterpreter.interpretNews(element, fFeed);
+    }
+
+    public void reset() {
+      List<INews> news = fFeed.getNews();
+      for (int i = fInitialNewsCount; i < news.size(); i++)
+        fFeed.removeNews(news.get(i));
+
+      fInterpreter = null;
+      fStarted = false;
+    }
+
+    BasicInterpreter getInterpreter() {
+      return fInterpreter;
+    }
+
+    /*
+     * Interpreters keep the state of the Document they interpret (e.g. the
+     * default Namespace). The registered ones are shared by all Feeds, so each
+     * Document that is interpreted while it is parsed gets its own Interpreter.
+     */
+    private BasicInterpreter newInstance(BasicInterpreter interpreter) {
+      try {
+        return interpreter.getClass().newInstance();
+      } catch (InstantiationException e) {
+        Activator.getDefault().logError(e.getMessage(), e);
+      } catch (IllegalAccessException e) {
+        Activator.getDefault().logError(e.getMessage(), e);
+      }
+
+      return null;
+    }
+  }
+
   private volatile Map<String, IFormatInterpreter> fFormatInterpreters;
   private volatile Map<String, ITypeImporter> fTypeImporters;
   private volatile Map<String, INamespaceHandler> fNamespaceHandlers;
@@ -103,9 +177,47 @@ public class InterpreterServiceImpl implements IInterpreterService {
    * org.rssowl.core.model.persist.IFeed)
    */
   public void interpret(InputStream inS, IFeed feed) throws ParserException, InterpreterException {
-    Document document = fXMLParserImpl.parse(inS);
+    interpret(inS, feed, STREAMING_INTERPRETATION);
+  }
+
+  /**
+   * Interprets the given Stream into the Feed. In case <code>streaming</code>
+   * is <code>TRUE</code> and the default XML Parser is used, the News of the
+   * Feed are interpreted one by one while the Document is still being parsed.
+   * Otherwise the whole Document is parsed before it is interpreted.
+   *
+   * @param inS The InputStream to interpret.
+   * @param feed The Feed to interpret the Stream into.
+   * @param streaming TRUE to interpret the News while the Document is parsed
+   * and FALSE otherwise.
+   * @throws ParserException In case of an Error while Parsing.
+   * @throws InterpreterException In case of an Error while Interpreting.
+   */
+  public void interpret(InputStream inS, IFeed feed, boolean streaming) throws ParserException, InterpreterException {
+
+    /* Parse the whole Document and interpret it afterwards */
+    if (!streaming || !(fXMLParserImpl instanceof DefaultSaxParserImpl)) {
+      Document document = fXMLParserImpl.parse(inS);
+      interpretJDomDocument(document, feed);
+      return;
+    }
+
+    /* Interpret News while parsing and the remaining Document afterwards */
+    StreamingNewsInterpreter newsInterpreter = new StreamingNewsInterpreter(feed);
+    Document document;
+    try {
+      document = ((DefaultSaxParserImpl) fXMLParserImpl).parse(inS, newsInterpreter);
+    } catch (ParserException e) {
+      newsInterpreter.reset();
+      throw e;
+    }
 
-    interpretJDomDocument(document, feed);
+    /* Interpret the rest of the Document with the Interpreter of the News */
+    BasicInterpreter interpreter = newsInterpreter.getInterpreter();
+    if (interpreter != null)
+      interpreter.interpret(document, feed);
+    else
+      interpretJDomDocument(document, feed);
   }
 
   /*
@@ -58,6 +58,27 @@ public class RDFInterpreter extends BasicInterpreter {
     processFeed(root, feed);
   }
 
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#isNewsElement(org.jdom.Element)
+   */
+  @Override
+  protected boolean isNewsElement(Element element) {
+    if (!"item".equals(element.getName().toLowerCase())) //$NON-NLS-1$
+      return false;
+
+    Element root = element.getParentElement();
+    return root != null && root.isRootElement() && !hasElementHandler(element);
+  }
+
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#interpretNews(org.jdom.Element,
+   * org.rssowl.core.persist.IFeed)
+   */
+  @Override
+  protected void interpretNews(Element element, IFeed feed) {
+    processItem(element, feed);
+  }
+
   private void processFeed(Element element, IFeed feed) {
 
     /* Interpret Attributes */
@@ -67,6 +67,32 @@ public class RSSInterpreter extends BasicInterpreter {
     processFeed(root, feed);
   }
 
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#isNewsElement(org.jdom.Element)
+   */
+  @Override
+  protected boolean isNewsElement(Element element) {
+    if (!"item".equals(element.getName().toLowerCase())) //$NON-NLS-1$
+      return false;
+
+    /* Items are only interpreted as direct Children of the Channel */
+    Element channel = element.getParentElement();
+    if (channel == null || !"channel".equals(channel.getName().toLowerCase())) //$NON-NLS-1$
+      return false;
+
+    Element root = channel.getParentElement();
+    return root != null && root.isRootElement() && !hasElementHandler(channel) && !hasElementHandler(element);
+  }
+
+  /*
+   * @see org.rssowl.core.internal.interpreter.BasicInterpreter#interpretNews(org.jdom.Element,
+   * org.rssowl.core.persist.IFeed)
+   */
+  @Override
+  protected void interpretNews(Element element, IFeed feed) {
+    processItems(element, feed);
+  }
+
   private void processFeed(Element element, IFeed feed) {
 
     /* Interpret Attributes */
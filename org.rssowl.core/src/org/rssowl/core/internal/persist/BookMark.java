@@ -207,6 +207,14 @@ public class BookMark extends Mark implements IBookMark {
 					INews.State.UPDATED)))
 				return fNewsCounter.getUnreadCount(getFeedLinkReference()
 						.getLink());
+
+			if (states.equals(EnumSet.of(INews.State.READ)))
+				return fNewsCounter.getReadCount(getFeedLinkReference()
+						.getLink());
+
+			if (states.equals(EnumSet.allOf(INews.State.class)))
+				return fNewsCounter.getTotalCount(getFeedLinkReference()
+						.getLink());
 		}
 
 		return getNews(states).size();
@@ -214,7 +222,7 @@ public class BookMark extends Mark implements IBookMark {
 
 	/* getNewsCount(states) is synchronized so this method does not need to be */
 	public double getReadPercentage() {
-		int total = this.getNews().size();
+		int total = this.getNewsCount(EnumSet.allOf(State.class));
 		
 		if(total != 0) {
 			int read = this.getNewsCount(EnumSet.of(State.READ));
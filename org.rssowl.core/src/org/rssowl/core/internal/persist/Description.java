@@ -26,11 +26,29 @@ package org.rssowl.core.internal.persist;
 import org.eclipse.core.runtime.Assert;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.reference.NewsReference;
+import org.rssowl.core.persist.service.PersistenceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 public class Description extends Persistable    {
 
+  /* Set to TRUE to store long values compressed */
+  private static final boolean COMPRESS = Boolean.getBoolean("rssowl.compressdescriptions"); //$NON-NLS-1$
+
+  /* Shorter values don't gain enough from compression */
+  private static final int MIN_COMPRESSED_LENGTH = 512;
+
+  private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
   private String fValue;
 
+  /* Either fValue or fCompressedValue is set, depending on COMPRESS at the time of saving */
+  private byte[] fCompressedValue;
+
   /* Also used as its own identifier */
   private long fNewsId;
 
@@ -39,22 +57,75 @@ public class Description extends Persistable    {
   }
 
   public Description(INews news, String value) {
+    this(news, value, COMPRESS);
+  }
+
+  /*
+   * Allows to choose the stored form regardless of the system property, e.g.
+   * to create values that were stored before compression was enabled.
+   */
+  public Description(INews news, String value, boolean compress) {
     Assert.isNotNull(news, "news");
     Assert.isNotNull(news.getId(), "news.getId()");
     fNewsId = news.getId();
 
-    fValue = value;
+    setValue(value, compress);
   }
 
   public synchronized NewsReference getNews() {
     return new NewsReference(fNewsId);
   }
 
+  public synchronized long getNewsId() {
+    return fNewsId;
+  }
+
   public synchronized String getValue() {
+    if (fCompressedValue != null)
+      return decompress(fCompressedValue);
+
     return fValue;
   }
 
   public synchronized void setDescription(String description) {
-    fValue = description;
+    setValue(description, COMPRESS);
+  }
+
+  private void setValue(String value, boolean compress) {
+    if (compress && value != null && value.length() >= MIN_COMPRESSED_LENGTH) {
+      fCompressedValue = compress(value);
+      fValue = null;
+    } else {
+      fValue = value;
+      fCompressedValue = null;
+    }
+  }
+
+  private static byte[] compress(String value) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() / 2);
+      DeflaterOutputStream out = new DeflaterOutputStream(bytes);
+      out.write(value.getBytes(ENCODING));
+      out.close();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  private String decompress(byte[] compressedValue) {
+    try {
+      InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressedValue));
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(compressedValue.length * 4);
+      byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1)
+        bytes.write(buffer, 0, read);
+
+      in.close();
+      return bytes.toString(ENCODING);
+    } catch (IOException e) {
+      throw new PersistenceException("Compressed description could not be read, news id: " + fNewsId, e);
+    }
   }
 }
@@ -42,6 +42,10 @@ public final class DescriptionReference {
     return DBHelper.getDescriptionDAO().load(fNewsId);
   }
 
+  public String resolveValue() throws PersistenceException  {
+    return DBHelper.getDescriptionDAO().loadValue(fNewsId);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj)
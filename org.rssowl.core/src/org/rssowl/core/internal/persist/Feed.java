@@ -138,15 +138,6 @@ public class Feed extends AbstractEntity implements IFeed {
     fNews.add(news);
   }
 
-  private int findNews(List<INews> newsList, INews news) {
-    for (int i = 0, c = newsList.size(); i < c; ++i) {
-      if (news.isEquivalent(newsList.get(i)))
-        return i;
-    }
-
-    return -1;
-  }
-
   /*
    * @see org.rssowl.core.model.types.IFeed#getNews()
    */
@@ -827,20 +818,22 @@ public class Feed extends AbstractEntity implements IFeed {
   }
 
   private ComplexMergeResult<List<INews>> mergeNews(List<INews> newsList, boolean cleanUp) {
-    List<INews> newsListCopy = copyWithoutDuplicates(newsList);
+    /* Index the new News once to find equivalent News in constant time */
+    NewsEquivalenceIndex newsIndex = NewsEquivalenceIndex.createWithoutDuplicates(newsList);
     int[] newsToCleanUp = null;
     int newsToCleanUpSize = 0;
     if (cleanUp) {
       newsToCleanUp = new int[fNews.size() / 2];
     }
-    ComplexMergeResult<List<INews>> mergeResult = ComplexMergeResult.create(newsListCopy);
+    List<INews> addedNews = new ArrayList<INews>();
+    ComplexMergeResult<List<INews>> mergeResult = ComplexMergeResult.create(addedNews);
     for (int i = fNews.size() - 1; i >= 0; --i) {
       INews existingNews = fNews.get(i);
-      int existingNewsIndex = findNews(newsListCopy, existingNews);
+      int existingNewsIndex = newsIndex.indexOf(existingNews);
 
       if (existingNewsIndex > -1) {
-        mergeResult.addAll(existingNews.merge(newsListCopy.get(existingNewsIndex)));
-        newsListCopy.remove(existingNewsIndex);
+        mergeResult.addAll(existingNews.merge(newsIndex.get(existingNewsIndex)));
+        newsIndex.remove(existingNewsIndex);
       } else if ((newsToCleanUp != null) && (existingNews.getState() == INews.State.DELETED)) {
         newsToCleanUp = ArrayUtils.ensureCapacity(newsToCleanUp, newsToCleanUpSize + 1);
         newsToCleanUp[newsToCleanUpSize++] = i;
@@ -883,7 +876,8 @@ public class Feed extends AbstractEntity implements IFeed {
       }
 
     }
-    for (INews news : newsListCopy) {
+    addedNews.addAll(newsIndex.getRemaining());
+    for (INews news : addedNews) {
       news.setParent(this);
       fNews.add(news);
       mergeResult.setStructuralChange(true);
@@ -892,22 +886,6 @@ public class Feed extends AbstractEntity implements IFeed {
     return mergeResult;
   }
 
-  private List<INews> copyWithoutDuplicates(List<INews> newsList) {
-    List<INews> newsListCopy = new ArrayList<INews>(newsList.size());
-    for (INews outerNews : newsList) {
-      boolean containsNews = false;
-      for (INews innerNews : newsListCopy) {
-        if (innerNews.isEquivalent(outerNews)) {
-          containsNews = true;
-          break;
-        }
-      }
-      if (!containsNews)
-        newsListCopy.add(outerNews);
-    }
-    return newsListCopy;
-  }
-
   public synchronized boolean removeNews(INews news) {
     return fNews.remove(news);
   }
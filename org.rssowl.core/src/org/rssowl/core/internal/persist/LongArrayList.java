@@ -180,6 +180,39 @@ public class LongArrayList {
 
   }
 
+  /**
+   * Removes all elements that are contained in <code>sortedElements</code> in
+   * a single pass. The order of the remaining elements is preserved.
+   *
+   * @param sortedElements The elements to remove sorted in ascending order.
+   * @return the elements that have been removed.
+   */
+  public final long[] removeAll(long[] sortedElements) {
+    long[] removed = null;
+    int removedCount = 0;
+    int size = 0;
+    for (int i = 0; i < fSize; ++i) {
+      long element = fElements[i];
+      if (Arrays.binarySearch(sortedElements, element) >= 0) {
+        if (removed == null)
+          removed = new long[Math.min(sortedElements.length, fSize)];
+        removed = ArrayUtils.ensureCapacity(removed, removedCount + 1);
+        removed[removedCount++] = element;
+      } else
+        fElements[size++] = element;
+    }
+
+    if (removedCount == 0)
+      return new long[0];
+
+    Arrays.fill(fElements, size, fSize, 0L);
+    fSize = size;
+
+    long[] result = new long[removedCount];
+    System.arraycopy(removed, 0, result, 0, removedCount);
+    return result;
+  }
+
   public long[] toArray() {
     long[] copy = new long[fSize];
     System.arraycopy(fElements, 0, copy, 0, fSize);
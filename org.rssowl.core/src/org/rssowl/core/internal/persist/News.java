@@ -144,6 +144,10 @@ public class News extends AbstractEntity implements INews {
 
   private transient final Lock fLock = new Lock();
 
+  /* Copy of the persisted state, taken before the first change to it */
+  private transient News fSnapshot;
+  private transient boolean fTrackChanges;
+
   /**
    * Constructor used by <code>DefaultModelFactory</code>
    *
@@ -228,6 +232,57 @@ public class News extends AbstractEntity implements INews {
     init();
   }
 
+  /*
+   * Creates a compact snapshot of the given News for the NewsEvents that are
+   * fired when it is saved. It keeps the ID, the simple fields and the Labels,
+   * Categories and Author that listeners compare. Author and Categories are
+   * copied by value, since merging changes them in place. Attachments, Source
+   * and Properties are not kept. The caller must hold a lock of the News.
+   */
+  private News(News news) {
+    super(news.getId());
+    fTitle = news.fTitle;
+    fLinkText = news.fLinkText;
+    fBaseUri = news.fBaseUri;
+    fReceiveDate = news.fReceiveDate;
+    fPublishDate = news.fPublishDate;
+    fModifiedDate = news.fModifiedDate;
+    fComments = news.fComments;
+    fInReplyTo = news.fInReplyTo;
+    fIsFlagged = news.fIsFlagged;
+    fRating = news.fRating;
+    fStateOrdinal = news.fStateOrdinal;
+    fGuidValue = news.fGuidValue;
+    fGuidIsPermaLink = news.fGuidIsPermaLink;
+    if (fGuidValue != null)
+      fGuid = new Guid(fGuidValue, fGuidIsPermaLink);
+
+    fFeedLink = news.fFeedLink;
+
+    if (news.fAuthor != null) {
+      Person author = new Person(news.fAuthor.getId());
+      author.setName(news.fAuthor.getName());
+      author.setUri(news.fAuthor.getUri());
+      author.setEmail(news.fAuthor.getEmail());
+      fAuthor = author;
+    }
+
+    if (news.fCategories != null) {
+      fCategories = new ArrayList<ICategory>(news.fCategories.size());
+      for (ICategory category : news.fCategories) {
+        Category categoryCopy = new Category(category.getId());
+        categoryCopy.setName(category.getName());
+        categoryCopy.setDomain(category.getDomain());
+        fCategories.add(categoryCopy);
+      }
+    }
+
+    if (news.fLabels != null)
+      fLabels = new HashSet<ILabel>(news.fLabels);
+
+    fParentId = news.fParentId;
+  }
+
   /**
    * Default constructor for deserialization
    */
@@ -248,6 +303,61 @@ public class News extends AbstractEntity implements INews {
     }
   }
 
+  /**
+   * Marks the current state of this News as the persisted one. From now on, a
+   * snapshot of this state is taken before the News is changed for the first
+   * time. Should be called after the News was activated or stored and not be
+   * used otherwise.
+   */
+  public final void resetSnapshot() {
+    fLock.acquireWriteLock();
+    try {
+      fSnapshot = null;
+      fTrackChanges = true;
+    } finally {
+      fLock.releaseWriteLock();
+    }
+  }
+
+  /**
+   * Returns a copy of the persisted state of this News without reading it from
+   * the database. This is either the snapshot taken before the first change
+   * since the News was activated or stored, or a copy of the current state if
+   * the News has not been changed since. The copy does not contain the
+   * Attachments, the Source and the Properties of this News.
+   *
+   * @return a copy of the persisted state of this News or <code>null</code> if
+   * changes to this News are not tracked.
+   * @see #resetSnapshot()
+   */
+  public final INews getSnapshot() {
+    fLock.acquireReadLock();
+    try {
+      if (fSnapshot != null)
+        return fSnapshot;
+
+      return fTrackChanges ? new News(this) : null;
+    } finally {
+      fLock.releaseReadLock();
+    }
+  }
+
+  /* Acquires the write lock and takes a snapshot before the first change */
+  private void acquireWriteLock() {
+    fLock.acquireWriteLock();
+    takeSnapshot();
+  }
+
+  /* Returns TRUE if the snapshot was taken now. Caller must hold the write lock */
+  private boolean takeSnapshot() {
+    if (fTrackChanges && fSnapshot == null) {
+      fSnapshot = new News(this);
+      return true;
+    }
+
+    return false;
+  }
+
   /**
    * Acquires the read lock used by all non-mutating public methods of this
    * object. This method also ensures that an IllegalStateException is thrown if
@@ -315,7 +425,7 @@ public class News extends AbstractEntity implements INews {
    */
   @Override
   public Object removeProperty(String key) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       return super.removeProperty(key);
     } finally {
@@ -328,7 +438,7 @@ public class News extends AbstractEntity implements INews {
    */
   @Override
   public void setProperty(String key, Serializable value) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       super.setProperty(key, value);
     } finally {
@@ -383,7 +493,7 @@ public class News extends AbstractEntity implements INews {
    */
   public void addAttachment(IAttachment attachment) {
     Assert.isNotNull(attachment, "Exception adding NULL as Attachment into News"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fAttachments == null)
         fAttachments = new ArrayList<IAttachment>(1);
@@ -409,7 +519,7 @@ public class News extends AbstractEntity implements INews {
 
   public boolean addLabel(ILabel label) {
     Assert.isNotNull(label, "label"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fLabels == null)
         fLabels = new HashSet<ILabel>(1);
@@ -422,7 +532,7 @@ public class News extends AbstractEntity implements INews {
 
   public boolean removeLabel(ILabel label) {
     Assert.isNotNull(label, "label"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fLabels == null)
         return false;
@@ -463,7 +573,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setAuthor(org.rssowl.core.model.types.IPerson)
    */
   public void setAuthor(IPerson author) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fAuthor = author;
     } finally {
@@ -486,12 +596,11 @@ public class News extends AbstractEntity implements INews {
     if (getId() == null)
       return null;
 
-    Description description = loadDescription();
-    return description == null ? null : description.getValue();
+    return new DescriptionReference(getIdAsPrimitive()).resolveValue();
   }
 
   public void setDescription(String description) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fTransientDescription = description;
       fTransientDescriptionSet = true;
@@ -516,7 +625,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setLink(java.lang.String)
    */
   public void setLink(URI link) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fLinkText = link == null ? null : link.toString();
     } finally {
@@ -540,7 +649,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setPublishDate(java.util.Date)
    */
   public void setPublishDate(Date publishDate) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fPublishDate = publishDate;
     } finally	{
@@ -564,7 +673,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setTitle(java.lang.String)
    */
   public void setTitle(String title) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fTitle = title;
     } finally {
@@ -588,7 +697,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setReceiveDate(java.util.Date)
    */
   public void setReceiveDate(Date receiveDate) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fReceiveDate = receiveDate;
     } finally {
@@ -612,7 +721,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setComments(java.lang.String)
    */
   public void setComments(String comments) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fComments = comments;
     } finally {
@@ -624,7 +733,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setGuid(org.rssowl.core.model.types.IGuid)
    */
   public void setGuid(IGuid guid) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fGuid = guid;
       fGuidValue = (guid == null ? null : guid.getValue());
@@ -638,7 +747,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setSource(org.rssowl.core.model.types.ISource)
    */
   public void setSource(ISource source) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fSource = source;
     } finally {
@@ -650,7 +759,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setInReplyTo(java.lang.String)
    */
   public void setInReplyTo(String guid) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fInReplyTo = guid;
     } finally {
@@ -662,7 +771,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setModifiedDate(java.util.Date)
    */
   public void setModifiedDate(Date modifiedDate) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fModifiedDate = modifiedDate;
     } finally {
@@ -686,7 +795,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#addCategory(org.rssowl.core.model.types.ICategory)
    */
   public void addCategory(ICategory category) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fCategories == null)
         fCategories = new ArrayList<ICategory>(1);
@@ -724,7 +833,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setFlagged(boolean)
    */
   public void setFlagged(boolean isFlagged) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fIsFlagged = isFlagged;
     } finally {
@@ -748,7 +857,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setBase(java.net.URI)
    */
   public void setBase(URI baseUri) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fBaseUri = getURIText(baseUri);
     } finally {
@@ -787,7 +896,7 @@ public class News extends AbstractEntity implements INews {
    */
   public void setState(State state) {
     Assert.isNotNull(state, "state cannot be null"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fStateOrdinal = state.ordinal();
     } finally {
@@ -811,7 +920,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setRating(int)
    */
   public void setRating(int rating) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fRating = rating;
     } finally {
@@ -993,6 +1102,7 @@ public class News extends AbstractEntity implements INews {
     try {
       fLock.acquireWriteLock();
       try {
+        boolean snapshotTaken = takeSnapshot();
         boolean updated = mergeState(news);
 
         MergeResult result = new MergeResult();
@@ -1018,6 +1128,11 @@ public class News extends AbstractEntity implements INews {
           result.addUpdatedObject(this);
           result.addAll(propertiesResult);
         }
+
+        /* Nothing changed, so this News is not saved and the snapshot not needed */
+        else if (snapshotTaken)
+          fSnapshot = null;
+
         return result;
       } finally {
         fLock.releaseWriteLock();
@@ -1154,7 +1269,7 @@ public class News extends AbstractEntity implements INews {
 
   public void setParent(IFeed feed) {
     Assert.isNotNull(feed, "feed"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       this.fFeedLink = feed.getLink().toString();
     } finally {
@@ -1163,7 +1278,7 @@ public class News extends AbstractEntity implements INews {
   }
 
   public void removeAttachment(IAttachment attachment) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fAttachments != null)
         fAttachments.remove(attachment);
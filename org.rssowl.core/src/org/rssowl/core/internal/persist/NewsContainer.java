@@ -32,7 +32,9 @@ import org.rssowl.core.util.Pair;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -130,6 +132,63 @@ public final class NewsContainer {
     return Pair.create(changed, isNewNewsAdded);
   }
 
+  /**
+   * Updates this container for the News with the given IDs only. News with
+   * these IDs that are not contained in <code>newsMap</code> are removed,
+   * all other News are left untouched.
+   *
+   * @param newsIds The IDs of the News to update.
+   * @param newsMap The News out of <code>newsIds</code> that should be
+   * contained per State.
+   * @return Returns a {@link Pair} where the first {@link Boolean} indicates
+   * whether the container changed and the second {@link Boolean} indicates if
+   * there is any *new* news that where added.
+   */
+  public Pair<Boolean, Boolean> updateNews(Collection<Long> newsIds, Map<INews.State, List<NewsReference>> newsMap) {
+    Assert.isNotNull(newsIds, "newsIds");
+    Assert.isNotNull(newsMap, "newsMap");
+
+    boolean changed = false;
+    boolean isNewNewsAdded = false;
+
+    long[] sortedNewsIds = new long[newsIds.size()];
+    int i = 0;
+    for (Long newsId : newsIds)
+      sortedNewsIds[i++] = newsId;
+    Arrays.sort(sortedNewsIds);
+
+    /* Remove the News from all States and remember their previous State */
+    Map<Long, INews.State> previousStates = new HashMap<Long, INews.State>();
+    for (INews.State state : INews.State.values()) {
+      long[] removedIds = fNewsIds[state.ordinal()].removeAll(sortedNewsIds);
+      for (long removedId : removedIds)
+        previousStates.put(removedId, state);
+    }
+
+    /* Add the News to their current State */
+    for (Map.Entry<INews.State, List<NewsReference>> mapEntry : newsMap.entrySet()) {
+      INews.State state = mapEntry.getKey();
+      LongArrayList currentArrayList = fNewsIds[state.ordinal()];
+      for (NewsReference newsRef : mapEntry.getValue()) {
+        long newsId = newsRef.getId();
+        currentArrayList.add(newsId);
+
+        INews.State previousState = previousStates.remove(newsId);
+        if (previousState != state) {
+          changed = true;
+          if (state == INews.State.NEW)
+            isNewNewsAdded = true;
+        }
+      }
+    }
+
+    /* News that have been removed and not added again */
+    if (!previousStates.isEmpty())
+      changed = true;
+
+    return Pair.create(changed, isNewNewsAdded);
+  }
+
   public void addNews(INews news) {
     checkNewsIdNotNull(news);
     fNewsIds[getIndex(news)].add(news.getId());
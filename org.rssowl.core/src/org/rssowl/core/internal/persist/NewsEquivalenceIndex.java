@@ -0,0 +1,230 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist;
+
+import org.rssowl.core.persist.IGuid;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.util.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index over a list of <code>INews</code> that allows to find the first
+ * news in the list that is equivalent (as per
+ * {@link INews#isEquivalent(INews)}) to a given news without comparing it to
+ * every element of the list.
+ * <p>
+ * Every news that can be equivalent to another news shares at least one key
+ * with it: the guid value (if both guids are perma-links), the link or the
+ * title (if both links are <code>null</code>). The index keeps a hash of each
+ * of these keys to the positions of the news having it, and only these
+ * candidates are checked with <code>isEquivalent</code>. Because of that, the
+ * result is exactly the same as the one of a linear scan.
+ * </p>
+ * <p>
+ * Positions are never reused. Removing a news from the index simply marks its
+ * position as removed, so the relative order of the remaining news is
+ * preserved.
+ * </p>
+ * This object is not thread-safe.
+ */
+final class NewsEquivalenceIndex {
+  private static final int NO_POSITION = -1;
+
+  private final List<INews> fNews;
+  private boolean[] fRemoved;
+  private int fRemovedCount;
+
+  /* Maps each key to the last position added with that key */
+  private final Map<String, Integer> fGuidIndex;
+  private final Map<String, Integer> fLinkIndex;
+  private final Map<String, Integer> fTitleIndex;
+
+  /* Links each position to the previous position with the same key */
+  private int[] fPreviousByGuid;
+  private int[] fPreviousByLink;
+  private int[] fPreviousByTitle;
+
+  /**
+   * Creates an empty index.
+   *
+   * @param expectedSize The number of news that are expected to be added.
+   */
+  NewsEquivalenceIndex(int expectedSize) {
+    int capacity = Math.max(expectedSize, 1);
+    fNews = new ArrayList<INews>(capacity);
+    fRemoved = new boolean[capacity];
+    fGuidIndex = new HashMap<String, Integer>(capacity * 4 / 3 + 1);
+    fLinkIndex = new HashMap<String, Integer>(capacity * 4 / 3 + 1);
+    fTitleIndex = new HashMap<String, Integer>();
+    fPreviousByGuid = new int[capacity];
+    fPreviousByLink = new int[capacity];
+    fPreviousByTitle = new int[capacity];
+  }
+
+  /**
+   * Creates an index of <code>newsList</code> that contains no two news that
+   * are equivalent to each other. For each set of equivalent news, only the
+   * first one in <code>newsList</code> is added.
+   *
+   * @param newsList The List of News to index.
+   * @return an index of <code>newsList</code> without duplicates.
+   */
+  static NewsEquivalenceIndex createWithoutDuplicates(List<INews> newsList) {
+    NewsEquivalenceIndex index = new NewsEquivalenceIndex(newsList.size());
+    for (INews news : newsList) {
+      if (index.indexOf(news) == NO_POSITION)
+        index.add(news);
+    }
+    return index;
+  }
+
+  /**
+   * Adds <code>news</code> at the end of this index.
+   *
+   * @param news The News to add.
+   */
+  void add(INews news) {
+    int position = fNews.size();
+    fNews.add(news);
+    ensureCapacity(position + 1);
+
+    fPreviousByGuid[position] = link(fGuidIndex, getGuidKey(news), position);
+    fPreviousByLink[position] = link(fLinkIndex, getLinkKey(news), position);
+    fPreviousByTitle[position] = link(fTitleIndex, getTitleKey(news), position);
+  }
+
+  /**
+   * Returns the position of the first news in this index that has not been
+   * removed and that is equivalent to <code>news</code> or <code>-1</code> if
+   * there is none.
+   *
+   * @param news The News to find an equivalent one for.
+   * @return the position of the first equivalent news or <code>-1</code>.
+   */
+  int indexOf(INews news) {
+    int result = NO_POSITION;
+    result = find(news, fGuidIndex.get(getGuidKey(news)), fPreviousByGuid, result);
+    result = find(news, fLinkIndex.get(getLinkKey(news)), fPreviousByLink, result);
+    result = find(news, fTitleIndex.get(getTitleKey(news)), fPreviousByTitle, result);
+    return result;
+  }
+
+  /**
+   * @param position The position of the News to return.
+   * @return the News at <code>position</code>.
+   */
+  INews get(int position) {
+    return fNews.get(position);
+  }
+
+  /**
+   * Removes the News at <code>position</code> from this index. The positions
+   * of the other news are not affected.
+   *
+   * @param position The position of the News to remove.
+   */
+  void remove(int position) {
+    if (!fRemoved[position]) {
+      fRemoved[position] = true;
+      ++fRemovedCount;
+    }
+  }
+
+  /**
+   * @return the News that have not been removed from this index in the order
+   * in which they were added.
+   */
+  List<INews> getRemaining() {
+    List<INews> remaining = new ArrayList<INews>(fNews.size() - fRemovedCount);
+    for (int i = 0, c = fNews.size(); i < c; ++i) {
+      if (!fRemoved[i])
+        remaining.add(fNews.get(i));
+    }
+    return remaining;
+  }
+
+  private int find(INews news, Integer lastPosition, int[] previousPositions, int currentResult) {
+    if (lastPosition == null)
+      return currentResult;
+
+    int result = currentResult;
+
+    /* Chains go from the highest to the lowest position, the last match wins */
+    for (int i = lastPosition.intValue(); i != NO_POSITION; i = previousPositions[i]) {
+      if (result != NO_POSITION && i >= result)
+        continue;
+
+      if (!fRemoved[i] && news.isEquivalent(fNews.get(i)))
+        result = i;
+    }
+
+    return result;
+  }
+
+  private int link(Map<String, Integer> index, String key, int position) {
+    if (key == null)
+      return NO_POSITION;
+
+    Integer previous = index.put(key, Integer.valueOf(position));
+    return previous == null ? NO_POSITION : previous.intValue();
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity <= fRemoved.length)
+      return;
+
+    boolean[] removed = new boolean[Math.max(minCapacity, fRemoved.length * 2)];
+    System.arraycopy(fRemoved, 0, removed, 0, fRemoved.length);
+    fRemoved = removed;
+    fPreviousByGuid = ArrayUtils.ensureCapacity(fPreviousByGuid, removed.length);
+    fPreviousByLink = ArrayUtils.ensureCapacity(fPreviousByLink, removed.length);
+    fPreviousByTitle = ArrayUtils.ensureCapacity(fPreviousByTitle, removed.length);
+  }
+
+  private String getGuidKey(INews news) {
+    IGuid guid = news.getGuid();
+    if (guid == null || !guid.isPermaLink())
+      return null;
+
+    return guid.getValue();
+  }
+
+  private String getLinkKey(INews news) {
+    return ((News) news).getLinkAsText();
+  }
+
+  private String getTitleKey(INews news) {
+
+    /* The title is only compared if both news have no link */
+    if (((News) news).getLinkAsText() != null)
+      return null;
+
+    return news.getTitle();
+  }
+}
@@ -35,6 +35,7 @@ import org.rssowl.core.persist.reference.SearchMarkReference;
 import org.rssowl.core.util.Pair;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
@@ -88,6 +89,14 @@ public class SearchMark extends Mark implements ISearchMark {
     return fNewsContainer.setNews(results);
   }
 
+  /*
+   * @see org.rssowl.core.persist.ISearchMark#updateNewsRefs(java.util.Collection,
+   * java.util.Map)
+   */
+  public synchronized Pair<Boolean, Boolean> updateNewsRefs(Collection<Long> newsIds, Map<INews.State, List<NewsReference>> results) {
+    return fNewsContainer.updateNews(newsIds, results);
+  }
+
   /*
    * @see org.rssowl.core.model.types.ISearchMark#addSearchCondition(org.rssowl.core.model.reference.SearchConditionReference)
    */
@@ -24,15 +24,14 @@
 package org.rssowl.core.internal.persist.dao;
 
 import org.eclipse.core.runtime.Assert;
-import org.eclipse.core.runtime.SafeRunner;
 import org.rssowl.core.internal.persist.service.DBHelper;
+import org.rssowl.core.internal.persist.service.EventDispatcher;
 import org.rssowl.core.persist.IEntity;
 import org.rssowl.core.persist.dao.IEntityDAO;
 import org.rssowl.core.persist.event.EntityListener;
 import org.rssowl.core.persist.event.ModelEvent;
 import org.rssowl.core.persist.event.runnable.EventType;
 import org.rssowl.core.persist.service.PersistenceException;
-import org.rssowl.core.util.LoggingSafeRunnable;
 
 import com.db4o.ext.Db4oException;
 import com.db4o.query.Query;
@@ -123,27 +122,11 @@ public abstract class AbstractEntityDAO<T extends IEntity,
       DBHelper.putEventTemplate(event);
   }
 
-  public final void fireEvents(final Set<E> events, final EventType eventType) {
+  public final void fireEvents(Set<E> events, EventType eventType) {
     Assert.isNotNull(eventType, "eventType");
-    for (final L listener : fEntityListeners) {
-      SafeRunner.run(new LoggingSafeRunnable() {
-        public void run() throws Exception {
-          switch (eventType) {
-            case PERSIST:
-              listener.entitiesAdded(events);
-              break;
-            case UPDATE:
-              listener.entitiesUpdated(events);
-              break;
-            case REMOVE:
-              listener.entitiesDeleted(events);
-              break;
-            default:
-              throw new IllegalArgumentException("eventType unknown: " + eventType);
-          }
-        }
-      });
-    }
+    EventDispatcher dispatcher = EventDispatcher.getDefault();
+    for (L listener : fEntityListeners)
+      dispatcher.dispatch(listener, events, eventType);
   }
 
   public void addEntityListener(L listener) {
@@ -152,6 +135,7 @@ public abstract class AbstractEntityDAO<T extends IEntity,
 
   public void removeEntityListener(L listener) {
     fEntityListeners.remove(listener);
+    EventDispatcher.getDefault().discard(listener);
   }
 
   /* Debugging code copied from old ListenerServiceImpl. Not being used atm */
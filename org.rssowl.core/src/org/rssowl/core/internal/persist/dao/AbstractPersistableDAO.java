@@ -137,22 +137,27 @@ public abstract class AbstractPersistableDAO<T extends IPersistable> implements
   public void saveAll(Collection<T> objects) {
     if (objects.isEmpty())
       return;
+    acquireLocks(objects);
     try {
-      preSaveAll(objects);
-      fWriteLock.lock();
       try {
-        for (T object : objects) {
-          preSave(object);
-        }
-        for (T object : objects) {
-          doSave(object);
+        preSaveAll(objects);
+        fWriteLock.lock();
+        try {
+          for (T object : objects) {
+            preSave(object);
+          }
+          for (T object : objects) {
+            doSave(object);
+          }
+          preCommit();
+          fDb.commit();
+        } catch (Db4oException e) {
+          throw DBHelper.rollbackAndPE(fDb, e);
+        } finally {
+          fWriteLock.unlock();
         }
-        preCommit();
-        fDb.commit();
-      } catch (Db4oException e) {
-        throw DBHelper.rollbackAndPE(fDb, e);
       } finally {
-        fWriteLock.unlock();
+        releaseLocks(objects);
       }
       DBHelper.cleanUpAndFireEvents();
     } finally {
@@ -160,6 +165,27 @@ public abstract class AbstractPersistableDAO<T extends IPersistable> implements
     }
   }
 
+  /**
+   * Acquires Locks that have to be held while the given objects are saved or
+   * deleted. Called before the global write lock is acquired.
+   *
+   * @param objects the objects that are about to be saved or deleted.
+   */
+  protected void acquireLocks(Collection<T> objects) {
+    // Do nothing by default
+  }
+
+  /**
+   * Releases the Locks acquired in {@link #acquireLocks(Collection)}. Called
+   * after the global write lock has been released and before the events are
+   * fired.
+   *
+   * @param objects the objects that have been saved or deleted.
+   */
+  protected void releaseLocks(Collection<T> objects) {
+    // Do nothing by default
+  }
+
   protected void preSaveAll(Collection<T> objects) {
     // Do nothing by default
   }
@@ -197,20 +223,25 @@ public abstract class AbstractPersistableDAO<T extends IPersistable> implements
     if (objects.isEmpty())
       return;
 
-    fWriteLock.lock();
+    acquireLocks(objects);
     try {
-      for (T object : objects) {
-        preDelete(object);
-      }
-      for (T object : objects) {
-        doDelete(object);
+      fWriteLock.lock();
+      try {
+        for (T object : objects) {
+          preDelete(object);
+        }
+        for (T object : objects) {
+          doDelete(object);
+        }
+        preCommit();
+        fDb.commit();
+      } catch (Db4oException e) {
+        DBHelper.rollbackAndPE(fDb, e);
+      } finally {
+        fWriteLock.unlock();
       }
-      preCommit();
-      fDb.commit();
-    } catch (Db4oException e) {
-      DBHelper.rollbackAndPE(fDb, e);
     } finally {
-      fWriteLock.unlock();
+      releaseLocks(objects);
     }
     DBHelper.cleanUpAndFireEvents();
   }
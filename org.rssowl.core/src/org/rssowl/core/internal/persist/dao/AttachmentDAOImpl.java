@@ -61,7 +61,7 @@ public final class AttachmentDAOImpl extends AbstractEntityDAO<IAttachment, Atta
     //in NewsService where never having a newsUpdated with a null oldNews is
     //helpful
     INews news = entity.getNews();
-    INews oldNews = fDb.ext().peekPersisted(news, 2, true);
+    INews oldNews = DBHelper.peekPersistedNews(fDb, news);
     NewsEvent newsEvent = new NewsEvent(oldNews, news, false);
     DBHelper.putEventTemplate(newsEvent);
     super.doDelete(entity);
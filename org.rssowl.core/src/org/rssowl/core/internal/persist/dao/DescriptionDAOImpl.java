@@ -24,15 +24,51 @@
 package org.rssowl.core.internal.persist.dao;
 
 import org.rssowl.core.internal.persist.Description;
+import org.rssowl.core.internal.persist.service.DatabaseEvent;
 
 import com.db4o.query.Query;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class DescriptionDAOImpl extends AbstractPersistableDAO<Description> implements IDescriptionDAO {
 
+  /* Maximum number of chars of description values kept in the cache */
+  private static final int MAX_CACHE_SIZE = Integer.getInteger("rssowl.descriptioncache.size", 2 * 1024 * 1024).intValue(); //$NON-NLS-1$
+
+  /* Values longer than this are not cached, so that they don't push out many smaller ones */
+  private static final int MAX_CACHED_VALUE_LENGTH = MAX_CACHE_SIZE / 16;
+
+  /* Rough memory used by a cache entry besides the chars of its value */
+  private static final int ENTRY_OVERHEAD = 32;
+
+  /* Cached for news without description */
+  private static final String NO_VALUE = new String();
+
+  /* Access ordered, so that iteration starts with the least recently used */
+  private final Map<Long, String> fValueCache = new LinkedHashMap<Long, String>(256, 0.75f, true);
+  private int fCacheSize;
+
+  /* Incremented on every invalidation to detect loads that raced with an update */
+  private long fModCount;
+
   public DescriptionDAOImpl() {
     super(Description.class, true);
   }
 
+  @Override
+  protected void onDatabaseOpened(DatabaseEvent event) {
+    super.onDatabaseOpened(event);
+    clearCache();
+  }
+
+  @Override
+  protected void onDatabaseClosed(DatabaseEvent event) {
+    super.onDatabaseClosed(event);
+    clearCache();
+  }
+
   public Description load(long newsId) {
     Query query = fDb.query();
     query.constrain(Description.class);
@@ -43,8 +79,65 @@ public class DescriptionDAOImpl extends AbstractPersistableDAO<Description> impl
   }
 
   public String loadValue(long newsId) {
+    Long key = Long.valueOf(newsId);
+    long modCount;
+    synchronized (fValueCache) {
+      String value = fValueCache.get(key);
+      if (value != null)
+        return value == NO_VALUE ? null : value;
+
+      modCount = fModCount;
+    }
+
     Description description = load(newsId);
-    return description == null ? null : description.getValue();
+    String value = description == null ? null : description.getValue();
+
+    synchronized (fValueCache) {
+
+      /* Don't cache a value that may have been changed meanwhile */
+      if (modCount == fModCount)
+        putInCache(key, value == null ? NO_VALUE : value);
+    }
+
+    return value;
+  }
+
+  public void invalidate(long newsId) {
+    synchronized (fValueCache) {
+      fModCount++;
+      String value = fValueCache.remove(Long.valueOf(newsId));
+      if (value != null)
+        fCacheSize -= sizeOf(value);
+    }
+  }
+
+  private void putInCache(Long key, String value) {
+    if (value.length() > MAX_CACHED_VALUE_LENGTH)
+      return;
+
+    String previous = fValueCache.put(key, value);
+    if (previous != null)
+      fCacheSize -= sizeOf(previous);
+    fCacheSize += sizeOf(value);
+
+    /* Evict least recently used values */
+    Iterator<String> it = fValueCache.values().iterator();
+    while (fCacheSize > MAX_CACHE_SIZE && it.hasNext()) {
+      fCacheSize -= sizeOf(it.next());
+      it.remove();
+    }
+  }
+
+  private int sizeOf(String value) {
+    return value.length() + ENTRY_OVERHEAD;
+  }
+
+  private void clearCache() {
+    synchronized (fValueCache) {
+      fModCount++;
+      fValueCache.clear();
+      fCacheSize = 0;
+    }
   }
 
   @Override
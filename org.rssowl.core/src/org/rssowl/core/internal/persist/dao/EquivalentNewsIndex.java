@@ -0,0 +1,162 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.dao;
+
+import org.rssowl.core.internal.persist.LongArrayList;
+import org.rssowl.core.internal.persist.News;
+import org.rssowl.core.persist.IGuid;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.util.LongHashMap;
+
+/**
+ * An in-memory index from the guid value and the link of <code>INews</code>
+ * to the IDs of the news that have them. It is used to find the news that are
+ * equivalent to a given news without asking the search index, which may not
+ * have seen the latest changes yet.
+ * <p>
+ * Keys are stored as case-insensitive hashes only, so a lookup returns
+ * candidates: the caller must check the guid or link of the news it resolves
+ * from the returned IDs. Because of that, it is fine for the index to contain
+ * the ID of a news that has been deleted or changed meanwhile, as long as no
+ * ID of a news that has the key is missing.
+ * </p>
+ * This object is thread-safe.
+ */
+final class EquivalentNewsIndex {
+  private final IdsByHash fIdsByGuid = new IdsByHash();
+  private final IdsByHash fIdsByLink = new IdsByHash();
+
+  /**
+   * Adds the ID of <code>news</code> under its guid value and link.
+   *
+   * @param news The News to add. Its ID must not be <code>null</code>.
+   */
+  synchronized void add(INews news) {
+    long id = news.getId().longValue();
+
+    String guid = getGuidValue(news);
+    if (guid != null)
+      fIdsByGuid.add(hash(guid), id);
+
+    String link = ((News) news).getLinkAsText();
+    if (link != null)
+      fIdsByLink.add(hash(link), id);
+  }
+
+  /**
+   * Removes the ID of <code>news</code> from its guid value and link.
+   *
+   * @param news The News to remove. Its ID must not be <code>null</code>.
+   */
+  synchronized void remove(INews news) {
+    long id = news.getId().longValue();
+
+    String guid = getGuidValue(news);
+    if (guid != null)
+      fIdsByGuid.remove(hash(guid), id);
+
+    String link = ((News) news).getLinkAsText();
+    if (link != null)
+      fIdsByLink.remove(hash(link), id);
+  }
+
+  /**
+   * @param guidValue The value of the guid to look for.
+   * @return the IDs of all news whose guid value may be equal to
+   * <code>guidValue</code> ignoring case.
+   */
+  synchronized long[] getIdsByGuid(String guidValue) {
+    return fIdsByGuid.get(hash(guidValue));
+  }
+
+  /**
+   * @param link The link to look for.
+   * @return the IDs of all news whose link may be equal to <code>link</code>
+   * ignoring case.
+   */
+  synchronized long[] getIdsByLink(String link) {
+    return fIdsByLink.get(hash(link));
+  }
+
+  /**
+   * Removes all IDs from this index.
+   */
+  synchronized void clear() {
+    fIdsByGuid.clear();
+    fIdsByLink.clear();
+  }
+
+  private String getGuidValue(INews news) {
+    IGuid guid = news.getGuid();
+    return guid != null ? guid.getValue() : null;
+  }
+
+  /* Same as String#hashCode() of a String where each char is compared as in String#equalsIgnoreCase() */
+  static int hash(String key) {
+    int hash = 0;
+    for (int i = 0, c = key.length(); i < c; i++)
+      hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+
+    return hash;
+  }
+
+  /* A table from int keys to a list of long values */
+  private static final class IdsByHash {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long[] EMPTY = new long[0];
+
+    private LongHashMap<LongArrayList> fIds;
+
+    IdsByHash() {
+      clear();
+    }
+
+    void add(int hash, long id) {
+      LongArrayList ids = fIds.get(hash);
+      if (ids == null) {
+        ids = new LongArrayList(1);
+        fIds.put(hash, ids);
+      }
+
+      if (!ids.contains(id))
+        ids.add(id);
+    }
+
+    void remove(int hash, long id) {
+      LongArrayList ids = fIds.get(hash);
+      if (ids != null && ids.removeByElement(id) && ids.isEmpty())
+        fIds.remove(hash);
+    }
+
+    long[] get(int hash) {
+      LongArrayList ids = fIds.get(hash);
+      return ids != null ? ids.toArray() : EMPTY;
+    }
+
+    void clear() {
+      fIds = new LongHashMap<LongArrayList>(INITIAL_CAPACITY);
+    }
+  }
+}
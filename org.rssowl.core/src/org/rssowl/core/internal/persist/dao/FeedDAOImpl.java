@@ -26,6 +26,7 @@ package org.rssowl.core.internal.persist.dao;
 
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.service.DBHelper;
+import org.rssowl.core.internal.persist.service.FeedLocks;
 import org.rssowl.core.persist.IFeed;
 import org.rssowl.core.persist.dao.IFeedDAO;
 import org.rssowl.core.persist.event.FeedEvent;
@@ -36,7 +37,9 @@ import org.rssowl.core.persist.service.PersistenceException;
 import com.db4o.ext.Db4oException;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * A data-access-object for <code>IFeed</code>s.
@@ -50,6 +53,24 @@ public final class FeedDAOImpl extends AbstractEntityDAO<IFeed, FeedListener, Fe
     super(Feed.class, false);
   }
 
+  @Override
+  protected final void acquireLocks(Collection<IFeed> objects) {
+    FeedLocks.lock(getFeedLinks(objects));
+  }
+
+  @Override
+  protected final void releaseLocks(Collection<IFeed> objects) {
+    FeedLocks.unlock(getFeedLinks(objects));
+  }
+
+  private List<String> getFeedLinks(Collection<IFeed> feeds) {
+    List<String> feedLinks = new ArrayList<String>(feeds.size());
+    for (IFeed feed : feeds)
+      feedLinks.add(feed.getLink().toString());
+
+    return feedLinks;
+  }
+
   @Override
   protected final void doSave(IFeed entity) {
     DBHelper.saveFeed(fDb, entity);
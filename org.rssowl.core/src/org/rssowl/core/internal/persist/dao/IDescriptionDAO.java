@@ -31,4 +31,6 @@ public interface IDescriptionDAO extends IPersistableDAO<Description> {
   public Description load(long newsId);
 
   public String loadValue(long newsId);
+
+  public void invalidate(long newsId);
 }
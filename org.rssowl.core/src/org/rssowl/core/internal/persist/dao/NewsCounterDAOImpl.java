@@ -60,6 +60,12 @@ public final class NewsCounterDAOImpl extends AbstractPersistableDAO<NewsCounter
       newsCounter = doCountAll();
       save(newsCounter);
     }
+
+    /* Counters stored by older versions lack the read and total counters */
+    else if (!newsCounter.isReadAndTotalCounted()) {
+      doCountReadAndTotal(newsCounter);
+      save(newsCounter);
+    }
     fNewsCounter = newsCounter;
   }
 
@@ -97,14 +103,43 @@ public final class NewsCounterDAOImpl extends AbstractPersistableDAO<NewsCounter
     for (IFeed feed : feeds)
       newsCounter.put(feed.getLink(), doCount(feed));
 
+    newsCounter.setReadAndTotalCounted(true);
     return newsCounter;
   }
 
+  private void doCountReadAndTotal(NewsCounter newsCounter) {
+    Collection<IFeed> feeds = DBHelper.loadAllFeeds(fDb);
+
+    for (IFeed feed : feeds) {
+      NewsCounterItem counterItem = newsCounter.get(feed.getLink());
+      if (counterItem == null) {
+        counterItem = new NewsCounterItem();
+        newsCounter.put(feed.getLink(), counterItem);
+      }
+
+      /* Items are only ever created with zero read and total counters before */
+      for (INews news : feed.getNews()) {
+        if (INews.State.READ.equals(news.getState()))
+          counterItem.incrementReadCounter();
+        counterItem.incrementTotalCounter();
+      }
+    }
+
+    newsCounter.setReadAndTotalCounted(true);
+  }
+
   private NewsCounterItem doCount(IFeed feed) {
     NewsCounterItem counterItem = new NewsCounterItem();
 
-    List<INews> newsList = feed.getVisibleNews();
+    List<INews> newsList = feed.getNews();
     for (INews news : newsList) {
+      counterItem.incrementTotalCounter();
+      if (INews.State.READ.equals(news.getState()))
+        counterItem.incrementReadCounter();
+
+      if (!news.isVisible())
+        continue;
+
       if (EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED).contains(news.getState()))
         counterItem.incrementUnreadCounter();
       if (INews.State.NEW.equals(news.getState()))
@@ -28,9 +28,12 @@ import org.eclipse.core.runtime.Assert;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.Activator;
 import org.rssowl.core.internal.persist.LazyList;
+import org.rssowl.core.internal.persist.LongArrayList;
 import org.rssowl.core.internal.persist.News;
 import org.rssowl.core.internal.persist.search.ModelSearchImpl;
 import org.rssowl.core.internal.persist.service.DBHelper;
+import org.rssowl.core.internal.persist.service.DatabaseEvent;
+import org.rssowl.core.internal.persist.service.FeedLocks;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.dao.INewsDAO;
@@ -41,6 +44,7 @@ import org.rssowl.core.persist.reference.FeedLinkReference;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.PersistenceException;
 
+import com.db4o.ObjectContainer;
 import com.db4o.ext.Db4oException;
 import com.db4o.query.Constraint;
 import com.db4o.query.Query;
@@ -48,9 +52,11 @@ import com.db4o.query.Query;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -65,11 +71,84 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, NewsEvent> implements INewsDAO {
 
+  /* Number of News that are changed at once when setting the state by IDs */
+  private static final int SET_STATE_CHUNK_SIZE = 500;
+
   private final ExecutorService fExecutorService = Executors.newFixedThreadPool(1);
+  private final EquivalentNewsIndex fEquivalentNewsIndex = new EquivalentNewsIndex();
+  private volatile boolean fEquivalentNewsIndexReady;
 
   /** Default constructor using the specific IPersistable for this DAO */
   public NewsDAOImpl() {
     super(News.class, false);
+    addEntityListener(new NewsListener() {
+      public void entitiesAdded(Set<NewsEvent> events) {
+        for (NewsEvent event : events)
+          addToEquivalentNewsIndex(event.getEntity());
+      }
+
+      public void entitiesUpdated(Set<NewsEvent> events) {
+        for (NewsEvent event : events) {
+          if (event.getOldNews() != null)
+            fEquivalentNewsIndex.remove(event.getOldNews());
+
+          addToEquivalentNewsIndex(event.getEntity());
+        }
+      }
+
+      public void entitiesDeleted(Set<NewsEvent> events) {
+        for (NewsEvent event : events)
+          fEquivalentNewsIndex.remove(event.getEntity());
+      }
+    });
+  }
+
+  @Override
+  protected void onDatabaseOpened(DatabaseEvent event) {
+    super.onDatabaseOpened(event);
+    fEquivalentNewsIndexReady = false;
+    fEquivalentNewsIndex.clear();
+
+    /* Fill the Index in the Background, News Events keep it up to date meanwhile */
+    final ObjectContainer db = fDb;
+    fExecutorService.execute(new Runnable() {
+      public void run() {
+        try {
+          fillEquivalentNewsIndex(db);
+          fEquivalentNewsIndexReady = (db == fDb);
+        } catch (Db4oException e) {
+          Activator.getDefault().logError(e.getMessage(), e);
+        }
+      }
+    });
+  }
+
+  @Override
+  protected void onDatabaseClosed(DatabaseEvent event) {
+    fEquivalentNewsIndexReady = false;
+    super.onDatabaseClosed(event);
+  }
+
+  private void fillEquivalentNewsIndex(ObjectContainer db) {
+    Query query = db.query();
+    query.constrain(News.class);
+    query.descend("fParentId").constrain(Long.valueOf(0)); //$NON-NLS-1$
+
+    Collection<INews> news = getList(query);
+    for (INews newsItem : news) {
+
+      /* Stop if the Database was closed meanwhile */
+      if (db != fDb)
+        return;
+
+      addToEquivalentNewsIndex(newsItem);
+    }
+  }
+
+  /* Only visible News that are not copies can be equivalent to others */
+  private void addToEquivalentNewsIndex(INews news) {
+    if (news.getParentId() == 0 && news.isVisible())
+      fEquivalentNewsIndex.add(news);
   }
 
   @Override
@@ -77,6 +156,24 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
     DBHelper.saveAndCascadeNews(fDb, entity, true);
   }
 
+  @Override
+  protected void acquireLocks(Collection<INews> objects) {
+    FeedLocks.lock(getFeedLinks(objects));
+  }
+
+  @Override
+  protected void releaseLocks(Collection<INews> objects) {
+    FeedLocks.unlock(getFeedLinks(objects));
+  }
+
+  private Set<String> getFeedLinks(Collection<INews> news) {
+    Set<String> feedLinks = new HashSet<String>();
+    for (INews newsItem : news)
+      feedLinks.add(newsItem.getFeedLinkAsText());
+
+    return feedLinks;
+  }
+
   @Override
   protected void preSaveAll(Collection<INews> objects) {
     for (INews news : objects) {
@@ -113,6 +210,30 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
   public void setState(Collection<INews> news, State state, boolean affectEquivalentNews, boolean force) throws PersistenceException {
     if (news.isEmpty())
       return;
+
+    /*
+     * Equivalent News of other Feeds are only found while holding the write
+     * lock, so all Feeds have to be locked in that case.
+     */
+    Set<String> feedLinks = null;
+    if (affectEquivalentNews)
+      FeedLocks.lockAll();
+    else {
+      feedLinks = getFeedLinks(news);
+      FeedLocks.lock(feedLinks);
+    }
+    try {
+      setStateLocked(news, state, affectEquivalentNews, force);
+    } finally {
+      if (affectEquivalentNews)
+        FeedLocks.unlockAll();
+      else
+        FeedLocks.unlock(feedLinks);
+    }
+    DBHelper.cleanUpAndFireEvents();
+  }
+
+  private void setStateLocked(Collection<INews> news, State state, boolean affectEquivalentNews, boolean force) {
     fWriteLock.lock();
     Set<INews> changedNews = null;
     try {
@@ -169,7 +290,6 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
     } finally {
       fWriteLock.unlock();
     }
-    DBHelper.cleanUpAndFireEvents();
   }
 
   private void save(Set<INews> newsList) {
@@ -201,6 +321,15 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
   }
 
   private List<INews> searchNews(INews newsItem, boolean guid, boolean newsSaved) {
+    if (fEquivalentNewsIndexReady) {
+      List<INews> news = findEquivalentNews(newsItem, guid);
+      if (newsSaved && !news.contains(newsItem))
+        news.add(newsItem);
+
+      return news;
+    }
+
+    /* Fall back to the Lucene Index until the Equivalent News Index is filled */
     List<INews> news = doSearchNews(newsItem, guid);
     if (!newsSaved)
       return news;
@@ -228,6 +357,33 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
     return news;
   }
 
+  private List<INews> findEquivalentNews(INews newsItem, boolean guid) {
+    String key = guid ? newsItem.getGuid().getValue() : newsItem.getLinkAsText();
+    long[] ids = guid ? fEquivalentNewsIndex.getIdsByGuid(key) : fEquivalentNewsIndex.getIdsByLink(key);
+
+    List<INews> news = new ArrayList<INews>(ids.length + 1);
+    for (long id : ids) {
+      if (newsItem.getId() != null && (id == newsItem.getId().longValue())) {
+        news.add(newsItem);
+        continue;
+      }
+
+      /* The Index only returns candidates, check them against the Database */
+      INews candidate = load(id);
+      if (candidate != null && candidate.getParentId() == 0 && candidate.isVisible() && key.equalsIgnoreCase(getKey(candidate, guid)))
+        news.add(candidate);
+    }
+
+    return news;
+  }
+
+  private String getKey(INews news, boolean guid) {
+    if (guid)
+      return news.getGuid() != null ? news.getGuid().getValue() : null;
+
+    return news.getLinkAsText();
+  }
+
   private List<INews> doSearchNews(INews newsItem, boolean guid) {
     ModelSearchImpl modelSearch = (ModelSearchImpl) Owl.getPersistenceService().getModelSearch();
     List<NewsReference> hits;
@@ -269,28 +425,82 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
       return new ArrayList<INews>(0);
 
     try {
-      Query query = fDb.query();
-      query.constrain(News.class);
-      query.descend("fFeedLink").constrain(feedRef.getLink().toString());
-      if (!states.containsAll(EnumSet.allOf(INews.State.class))) {
-        Constraint constraint = null;
-        for (INews.State state : states) {
-          if (constraint == null)
-            constraint = query.descend("fStateOrdinal").constrain(state.ordinal());
-          else
-            constraint = query.descend("fStateOrdinal").constrain(state.ordinal()).or(constraint);
+      Collection<INews> news = getList(createQuery(feedRef, states));
+      activateAll(news);
+
+      return new ArrayList<INews>(news);
+    } catch (Db4oException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
+  public Map<State, long[]> loadIds(FeedLinkReference feedRef, Set<State> states) {
+    Assert.isNotNull(feedRef, "feedRef");
+    Assert.isNotNull(states, "states");
+    Map<State, long[]> idsByState = new EnumMap<State, long[]>(State.class);
+    if (states.isEmpty())
+      return idsByState;
+
+    try {
+
+      /* One Query for all States, the News are only activated one by one while iterating */
+      List<INews> news = getList(createQuery(feedRef, states));
+      Map<State, LongArrayList> idListsByState = new EnumMap<State, LongArrayList>(State.class);
+      for (INews newsItem : news) {
+        State state = newsItem.getState();
+        LongArrayList ids = idListsByState.get(state);
+        if (ids == null) {
+          ids = new LongArrayList(10);
+          idListsByState.put(state, ids);
         }
+
+        ids.add(newsItem.getId().longValue());
       }
 
-      Collection<INews> news = getList(query);
-      activateAll(news);
+      for (Map.Entry<State, LongArrayList> entry : idListsByState.entrySet())
+        idsByState.put(entry.getKey(), entry.getValue().toArray());
 
-      return new ArrayList<INews>(news);
+      return idsByState;
     } catch (Db4oException e) {
       throw new PersistenceException(e);
     }
   }
 
+  private Query createQuery(FeedLinkReference feedRef, Set<State> states) {
+    Query query = fDb.query();
+    query.constrain(News.class);
+    query.descend("fFeedLink").constrain(feedRef.getLink().toString());
+    if (!states.containsAll(EnumSet.allOf(INews.State.class))) {
+      Constraint constraint = null;
+      for (INews.State state : states) {
+        if (constraint == null)
+          constraint = query.descend("fStateOrdinal").constrain(state.ordinal());
+        else
+          constraint = query.descend("fStateOrdinal").constrain(state.ordinal()).or(constraint);
+      }
+    }
+
+    return query;
+  }
+
+  public void setState(long[] newsIds, State state, boolean affectEquivalentNews, boolean force) throws PersistenceException {
+    Assert.isNotNull(newsIds, "newsIds");
+    Assert.isNotNull(state, "state");
+
+    for (int i = 0; i < newsIds.length; i += SET_STATE_CHUNK_SIZE) {
+      int end = Math.min(newsIds.length, i + SET_STATE_CHUNK_SIZE);
+      List<INews> news = new ArrayList<INews>(end - i);
+      for (int j = i; j < end; j++) {
+        INews newsItem = load(newsIds[j]);
+        if (newsItem != null)
+          news.add(newsItem);
+      }
+
+      /* Each Chunk is saved and its Events are fired separately */
+      setState(news, state, affectEquivalentNews, force);
+    }
+  }
+
   public void setState(Set<State> originalStates, State state, boolean affectEquivalentNews) throws PersistenceException {
     Assert.isNotNull(originalStates, "states");
     Assert.isNotNull(state, "state");
@@ -62,6 +62,15 @@ public class Indexer {
   /* Lucene only allows 1 Indexer to run at the same time */
   private static final int MAX_INDEX_JOBS_COUNT = 1;
 
+  /* Commit Policy: Max. number of changed Documents before a commit */
+  private static final int COMMIT_DOCUMENT_COUNT = 1000;
+
+  /* Commit Policy: Max. time in millis between commits while Documents change */
+  private static final long COMMIT_INTERVAL = 30000;
+
+  /* Size of the RAM Buffer in MB, once exceeded Lucene flushes on its own */
+  private static final double RAM_BUFFER_SIZE_MB = 16;
+
   /* DWord to disable stop words when Indexing */
   private static final String DISABLE_STOP_WORDS_PROPERTY = "disableStopWords";
 
@@ -71,6 +80,14 @@ public class Indexer {
   /* The IndexWriter to add/update/delete Documents */
   private IndexWriter fIndexWriter;
 
+  /* The Analyzer used by the IndexWriter */
+  private Analyzer fAnalyzer;
+
+  /* Number of changed Documents and time of the last commit */
+  private int fUncommittedDocumentCount;
+  private long fLastCommitTime;
+  private volatile long fCommitCount;
+
   private final JobQueue fJobQueue;
   private NewsListener fNewsListener;
   private LabelAdapter fLabelListener;
@@ -119,7 +136,17 @@ public class Indexer {
    * @param isUpdate
    */
   synchronized void index(List<INews> entities, boolean isUpdate) {
+    index(entities, isUpdate, false);
+  }
+
+  /*
+   * If replace is set, added News replace any Document for the same News that
+   * may already be in the Index. This is required when indexing outstanding
+   * News because the Index may have been committed after they were added.
+   */
+  private void index(List<INews> entities, boolean isUpdate, boolean replace) {
     int docCount = 0;
+    List<Long> newsIds = new ArrayList<Long>(entities.size());
 
     /* For each Event */
     for (ListIterator<INews> it = entities.listIterator(entities.size()); it.hasPrevious();) {
@@ -129,6 +156,7 @@ public class Indexer {
       try {
         if (newsDoc.addFields()) {
           docCount++;
+          newsIds.add(news.getId());
 
           /* Update Event */
           if (isUpdate) {
@@ -140,7 +168,10 @@ public class Indexer {
           /* Added Event */
           else {
             fUncommittedNews.addPersistedEntity(news);
-            fIndexWriter.addDocument(newsDoc.getDocument());
+            if (replace)
+              fIndexWriter.updateDocument(createTerm(news), newsDoc.getDocument());
+            else
+              fIndexWriter.addDocument(newsDoc.getDocument());
           }
 
         }
@@ -158,12 +189,23 @@ public class Indexer {
      */
     if (docCount > 0) {
       fFlushRequired = true;
+      commitIfNecessary(docCount);
 
       /* Notify Listeners */
-      fSearch.notifyIndexUpdated(docCount);
+      fSearch.notifyIndexUpdated(docCount, newsIds);
     }
   }
 
+  /**
+   * Adds the given News to the Index replacing any Document that may already
+   * exist for them.
+   *
+   * @param entities The News to add to the Index.
+   */
+  synchronized void indexOutstanding(List<INews> entities) {
+    index(entities, false, true);
+  }
+
   /**
    * TODO Provide generic method that can deal with any Event!
    *
@@ -172,29 +214,69 @@ public class Indexer {
    */
   synchronized void removeFromIndex(Collection<NewsReference> entities) throws IOException {
     int docCount = 0;
+    List<Long> newsIds = new ArrayList<Long>(entities.size());
 
     /* For each entity */
     for (NewsReference newsRef : entities) {
       Term term = createTerm(newsRef);
       fUncommittedNews.addRemovedEntityId(newsRef.getId());
       fIndexWriter.deleteDocuments(term);
+      newsIds.add(newsRef.getId());
       docCount++;
     }
 
     if (docCount > 0) {
       /* Mark as in need for a flush */
       fFlushRequired = true;
+      commitIfNecessary(docCount);
 
       /* Notify Listeners */
-      fSearch.notifyIndexUpdated(docCount);
+      fSearch.notifyIndexUpdated(docCount, newsIds);
     }
   }
 
+  /*
+   * Commits the IndexWriter once the number of changed Documents or the time
+   * since the last commit exceed the limits of the Commit Policy. This ensures
+   * that the News that have been committed are saved regularly even if no
+   * search is performed.
+   */
+  private void commitIfNecessary(int docCount) {
+    fUncommittedDocumentCount += docCount;
+    if (fUncommittedDocumentCount >= COMMIT_DOCUMENT_COUNT || System.currentTimeMillis() - fLastCommitTime >= COMMIT_INTERVAL)
+      commit();
+  }
+
+  /*
+   * Makes all changes visible to newly opened Readers without closing the
+   * IndexWriter and saves the News that have been committed.
+   */
+  private void commit() throws PersistenceException {
+    try {
+      fIndexWriter.flush();
+    } catch (IOException e) {
+      throw new PersistenceException(e);
+    }
+
+    fFlushRequired = false;
+    fUncommittedDocumentCount = 0;
+    fLastCommitTime = System.currentTimeMillis();
+    fCommitCount++;
+    saveCommittedNews(false, new EntityIdsByEventType(fUncommittedNews));
+    fUncommittedNews.clear();
+  }
+
+  /**
+   * @return the number of times the IndexWriter has been committed. Readers
+   * that have been opened before the last commit need to be reopened to see
+   * all changes.
+   */
+  long getCommitCount() {
+    return fCommitCount;
+  }
+
   //TODO Consider renaming to commitIfNecessary
   //TODO Remove fFlushRequired and rely on fUncommittedNews
-  //TODO Perhaps commit after fUncommittedNews has a certain size instead
-  //of relying always in this method. In most situations this method will
-  //be called often though
   boolean flushIfNecessary() throws PersistenceException {
     if (!fFlushRequired)
       return false;
@@ -207,10 +289,7 @@ public class Indexer {
       if (!fFlushRequired)
         return true;
 
-      dispose();
-      createIndexWriter();
-      saveCommittedNews(false, new EntityIdsByEventType(fUncommittedNews));
-      fUncommittedNews.clear();
+      commit();
     }
     return true;
   }
@@ -238,6 +317,7 @@ public class Indexer {
     fUncommittedNews.clear();
     if (IndexReader.indexExists(fIndexDirectory))
       fIndexWriter = createIndexWriter(fIndexDirectory, true);
+    fCommitCount++;
   }
 
   /**
@@ -469,10 +549,20 @@ public class Indexer {
     fNewsListener = null;
   }
 
+  /*
+   * The IndexWriter is kept open and uses auto commit, so that a flush makes
+   * the changes visible without closing and reopening it.
+   */
   private IndexWriter createIndexWriter(Directory directory, boolean create) throws IOException {
-    IndexWriter indexWriter = new IndexWriter(directory, false, createAnalyzer(), create);
+    if (fAnalyzer == null)
+      fAnalyzer = createAnalyzer();
+
+    IndexWriter indexWriter = new IndexWriter(directory, true, fAnalyzer, create);
     indexWriter.setMergeFactor(6);
+    indexWriter.setRAMBufferSizeMB(RAM_BUFFER_SIZE_MB);
     fFlushRequired = false;
+    fUncommittedDocumentCount = 0;
+    fLastCommitTime = System.currentTimeMillis();
     return indexWriter;
   }
 
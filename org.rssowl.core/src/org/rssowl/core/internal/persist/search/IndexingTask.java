@@ -147,8 +147,10 @@ public final class IndexingTask implements ITask {
   }
 
   private void addToIndex() {
+
+    /* News from References are outstanding from a previous session */
     if (fNews == null) {
-      fIndexer.index(getNewsFromRefs(fNewsRefs), false);
+      fIndexer.indexOutstanding(getNewsFromRefs(fNewsRefs));
       return;
     }
     fIndexer.index(fNews, false);
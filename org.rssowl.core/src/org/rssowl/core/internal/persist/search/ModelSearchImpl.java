@@ -28,7 +28,6 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.Token;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.document.DateTools;
-import org.apache.lucene.document.Document;
 import org.apache.lucene.document.NumberTools;
 import org.apache.lucene.document.DateTools.Resolution;
 import org.apache.lucene.index.CorruptIndexException;
@@ -123,8 +122,8 @@ public class ModelSearchImpl implements IModelSearch {
   /* One Day in Millis */
   private static final Long DAY = 1000 * 3600 * 24L;
 
-  /* Cached News States */
-  private static final INews.State[] NEWS_STATES = INews.State.values();
+  /* Max. number of News IDs to restrict a single Query to */
+  private static final int MAX_NEWS_IDS_PER_QUERY = 512;
 
   /* Wildcard matching any String */
   private static final char STRING_WILDCARD = '*';
@@ -133,10 +132,12 @@ public class ModelSearchImpl implements IModelSearch {
   private static final char CHAR_WILDCARD = '?';
 
   private volatile IndexSearcher fSearcher;
+  private long fSearcherCommitCount;
   private volatile Indexer fIndexer;
   private volatile Directory fDirectory;
   private final List<IndexListener> fIndexListeners = new CopyOnWriteArrayList<IndexListener>();
   private final Map<IndexSearcher, AtomicInteger> fSearchers = new ConcurrentHashMap<IndexSearcher, AtomicInteger>(3, 0.75f, 1);
+  private final NewsFieldCache fFieldCache = new NewsFieldCache();
 
   /*
    * @see org.rssowl.core.model.search.IModelSearch#startup()
@@ -155,8 +156,10 @@ public class ModelSearchImpl implements IModelSearch {
       fIndexer.initIfNecessary();
 
       synchronized (this) {
-        if (fSearcher == null)
+        if (fSearcher == null) {
+          fSearcherCommitCount = fIndexer.getCommitCount();
           fSearcher = createIndexSearcher();
+        }
       }
     } catch (IOException e) {
       Activator.getDefault().getLog().log(Activator.getDefault().createErrorStatus(e.getMessage(), e));
@@ -221,27 +224,40 @@ public class ModelSearchImpl implements IModelSearch {
 
   private static final class SimpleHitCollector extends HitCollector {
 
-    private final IndexSearcher fSearcher;
+    private final NewsFieldCache.Values fValues;
     private final List<NewsReference> fResultList;
 
-    SimpleHitCollector(IndexSearcher searcher, List<NewsReference> resultList) {
-      fSearcher = searcher;
+    SimpleHitCollector(NewsFieldCache.Values values, List<NewsReference> resultList) {
+      fValues = values;
       fResultList = resultList;
     }
 
     @Override
     public void collect(int doc, float score) {
-      try {
-        Document document = fSearcher.doc(doc);
 
-        /* Receive Stored Fields */
-        long newsId = Long.parseLong(document.get(SearchDocument.ENTITY_ID_TEXT));
+      /* Receive cached Fields */
+      long newsId = fValues.getId(doc);
 
-        /* Add to List */
+      /* Add to List */
+      if (newsId != NewsFieldCache.NO_ID)
         fResultList.add(new NewsReference(newsId));
-      } catch (IOException e) {
-        Activator.getDefault().logError(e.getMessage(), e);
-      }
+    }
+  }
+
+  /* A SearchHit for a News that provides the State without a Map */
+  private static final class NewsSearchHit extends SearchHit<NewsReference> {
+    private static final Integer STATE_KEY = Integer.valueOf(INews.STATE);
+
+    private final INews.State fState;
+
+    NewsSearchHit(NewsReference result, float relevance, INews.State state) {
+      super(result, relevance, null);
+      fState = state;
+    }
+
+    @Override
+    public Object getData(Object key) {
+      return STATE_KEY.equals(key) ? fState : null;
     }
   }
 
@@ -342,7 +358,8 @@ public class ModelSearchImpl implements IModelSearch {
     try {
       /* Use custom hit collector for performance reasons */
       /* Perform the Search */
-      currentSearcher.search(query, new SimpleHitCollector(currentSearcher, resultList));
+      NewsFieldCache.Values values = fFieldCache.get(currentSearcher.getIndexReader());
+      currentSearcher.search(query, new SimpleHitCollector(values, resultList));
       return resultList;
     } catch (IOException e) {
       throw new PersistenceException(e);
@@ -370,8 +387,16 @@ public class ModelSearchImpl implements IModelSearch {
    * boolean)
    */
   public List<SearchHit<NewsReference>> searchNews(Collection<ISearchCondition> conditions, boolean matchAllConditions) throws PersistenceException {
+    return searchNews(conditions, null, matchAllConditions);
+  }
+
+  /*
+   * @see org.rssowl.core.persist.service.IModelSearch#searchNews(java.util.Collection,
+   * java.util.Collection, boolean)
+   */
+  public List<SearchHit<NewsReference>> searchNews(Collection<ISearchCondition> conditions, Collection<Long> newsIds, boolean matchAllConditions) throws PersistenceException {
     try {
-      return doSearchNews(conditions, matchAllConditions);
+      return doSearchNews(conditions, newsIds, matchAllConditions);
     }
 
     /* Too Many Clauses - Increase Clauses Limit */
@@ -380,7 +405,7 @@ public class ModelSearchImpl implements IModelSearch {
       /* Disable Clauses Limit */
       if (BooleanQuery.getMaxClauseCount() != Integer.MAX_VALUE) {
         BooleanQuery.setMaxClauseCount(Integer.MAX_VALUE);
-        return doSearchNews(conditions, matchAllConditions);
+        return doSearchNews(conditions, newsIds, matchAllConditions);
       }
 
       /* Maximum reached */
@@ -388,7 +413,7 @@ public class ModelSearchImpl implements IModelSearch {
     }
   }
 
-  private List<SearchHit<NewsReference>> doSearchNews(Collection<ISearchCondition> conditions, boolean matchAllConditions) throws PersistenceException {
+  private List<SearchHit<NewsReference>> doSearchNews(Collection<ISearchCondition> conditions, Collection<Long> newsIds, boolean matchAllConditions) throws PersistenceException {
 
     /* Perform the search */
     try {
@@ -471,34 +496,44 @@ public class ModelSearchImpl implements IModelSearch {
       }
 
       /* Make sure the searcher is in sync */
-      final IndexSearcher currentSearcher = getCurrentSearcher();
+      IndexSearcher currentSearcher = getCurrentSearcher();
       final List<SearchHit<NewsReference>> resultList = new ArrayList<SearchHit<NewsReference>>();
 
-      /* Use custom hit collector for performance reasons */
-      HitCollector collector = new HitCollector() {
-        @Override
-        public void collect(int doc, float score) {
-          try {
-            Document document = currentSearcher.doc(doc);
-
-            /* Receive Stored Fields */
-            long newsId = Long.parseLong(document.get(SearchDocument.ENTITY_ID_TEXT));
-            INews.State newsState = NEWS_STATES[Integer.parseInt(document.get(NewsDocument.STATE_ID_TEXT))];
+      /* Perform the Search */
+      try {
+        final NewsFieldCache.Values values = fFieldCache.get(currentSearcher.getIndexReader());
 
-            Map<Integer, INews.State> data = new HashMap<Integer, INews.State>(1);
-            data.put(INews.STATE, newsState);
+        /* Use custom hit collector with cached Fields for performance reasons */
+        HitCollector collector = new HitCollector() {
+          @Override
+          public void collect(int doc, float score) {
+            long newsId = values.getId(doc);
 
             /* Add to List */
-            resultList.add(new SearchHit<NewsReference>(new NewsReference(newsId), score, data));
-          } catch (IOException e) {
-            Activator.getDefault().logError(e.getMessage(), e);
+            if (newsId != NewsFieldCache.NO_ID)
+              resultList.add(new NewsSearchHit(new NewsReference(newsId), score, values.getState(doc)));
           }
+        };
+
+        /* Search all News */
+        if (newsIds == null)
+          currentSearcher.search(bQuery, collector);
+
+        /* Search the given News only (in chunks to keep the number of clauses low) */
+        else {
+          List<Long> newsIdsChunk = new ArrayList<Long>(Math.min(newsIds.size(), MAX_NEWS_IDS_PER_QUERY));
+          for (Long newsId : newsIds) {
+            newsIdsChunk.add(newsId);
+            if (newsIdsChunk.size() == MAX_NEWS_IDS_PER_QUERY) {
+              currentSearcher.search(createRestrictedQuery(bQuery, newsIdsChunk), collector);
+              newsIdsChunk.clear();
+            }
+          }
+
+          if (!newsIdsChunk.isEmpty())
+            currentSearcher.search(createRestrictedQuery(bQuery, newsIdsChunk), collector);
         }
-      };
 
-      /* Perform the Search */
-      try {
-        currentSearcher.search(bQuery, collector);
         return resultList;
       } finally {
         disposeIfNecessary(currentSearcher);
@@ -508,6 +543,17 @@ public class ModelSearchImpl implements IModelSearch {
     }
   }
 
+  private BooleanQuery createRestrictedQuery(BooleanQuery query, List<Long> newsIds) {
+    BooleanQuery newsIdsQuery = new BooleanQuery(true);
+    for (Long newsId : newsIds)
+      newsIdsQuery.add(new TermQuery(new Term(SearchDocument.ENTITY_ID_TEXT, String.valueOf(newsId))), Occur.SHOULD);
+
+    BooleanQuery restrictedQuery = new BooleanQuery(true);
+    restrictedQuery.add(query, Occur.MUST);
+    restrictedQuery.add(newsIdsQuery, Occur.MUST);
+    return restrictedQuery;
+  }
+
   @SuppressWarnings("unchecked")
   private void addStateClause(BooleanQuery statesQuery, ISearchCondition condition) {
     String fieldName = String.valueOf(INews.STATE);
@@ -941,20 +987,24 @@ public class ModelSearchImpl implements IModelSearch {
 
   private IndexSearcher getCurrentSearcher() throws PersistenceException {
     try {
-      boolean flushed = fIndexer.flushIfNecessary();
+      fIndexer.flushIfNecessary();
 
-      /* Get the current searcher before acquiring lock in case we block */
-      IndexSearcher currentSearcher = fSearcher;
+      /*
+       * The Indexer also commits on its own while indexing, so the searcher
+       * is out of date whenever a commit happened since it was opened.
+       */
+      long commitCount = fIndexer.getCommitCount();
 
       synchronized (this) {
         /*
-         * If there are changes and currentSearcher == fSearcher, it means we
-         * won the race for the lock, so we reopen the searcher. If flushed is
-         * true, but currentSearcher != fSearcher it means that another thread
-         * has reopened the reader while we were blocked waiting for the lock.
+         * If another thread has reopened the reader after the last commit
+         * while we were blocked waiting for the lock, fSearcherCommitCount is
+         * up to date and we can use fSearcher.
          */
-        if (flushed && currentSearcher == fSearcher) {
-          IndexReader currentReader = fSearcher.getIndexReader();
+        if (commitCount > fSearcherCommitCount) {
+          fSearcherCommitCount = commitCount;
+          IndexSearcher currentSearcher = fSearcher;
+          IndexReader currentReader = currentSearcher.getIndexReader();
           IndexReader newReader = currentReader.reopen();
           if (newReader != currentReader) {
 
@@ -1010,6 +1060,7 @@ public class ModelSearchImpl implements IModelSearch {
    */
   private void dispose(IndexSearcher searcher) throws IOException {
     fSearchers.remove(searcher);
+    fFieldCache.remove(searcher.getIndexReader());
     searcher.close();
     searcher.getIndexReader().close();
   }
@@ -1022,6 +1073,7 @@ public class ModelSearchImpl implements IModelSearch {
       synchronized (this) {
         IndexSearcher currentSearcher = fSearcher;
         fIndexer.clearIndex();
+        fSearcherCommitCount = fIndexer.getCommitCount();
         fSearcher = createIndexSearcher();
 
         /*
@@ -1100,9 +1152,9 @@ public class ModelSearchImpl implements IModelSearch {
     }
   }
 
-  void notifyIndexUpdated(int docCount) {
+  void notifyIndexUpdated(int docCount, List<Long> newsIds) {
     for (IndexListener listener : fIndexListeners) {
-      listener.indexUpdated(docCount);
+      listener.indexUpdated(docCount, newsIds);
     }
   }
 
@@ -0,0 +1,154 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.search;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TermDocs;
+import org.apache.lucene.index.TermEnum;
+import org.rssowl.core.persist.INews;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache of the ID and State of the News in the Index per
+ * <code>IndexReader</code>, similar to Lucene's <code>FieldCache</code>. Both
+ * values are read once from the Terms of the Index into an Array indexed by
+ * Document number, so that collecting hits does not need to load the stored
+ * fields of each Document.
+ * <p>
+ * Values are computed lazily for each <code>IndexReader</code> and dropped
+ * once the <code>IndexReader</code> is reopened and disposed.
+ * </p>
+ */
+final class NewsFieldCache {
+
+  /* Value of Documents without ID */
+  static final long NO_ID = -1;
+
+  /* Value of Documents without State */
+  static final byte NO_STATE = -1;
+
+  /* Cached Values for one IndexReader */
+  static final class Values {
+    private final long[] fIds;
+    private final byte[] fStates;
+
+    Values(long[] ids, byte[] states) {
+      fIds = ids;
+      fStates = states;
+    }
+
+    /**
+     * @param doc The Document number.
+     * @return the ID of the News or <code>NO_ID</code> if none.
+     */
+    long getId(int doc) {
+      return fIds[doc];
+    }
+
+    /**
+     * @param doc The Document number.
+     * @return the State of the News or <code>null</code> if none.
+     */
+    INews.State getState(int doc) {
+      byte state = fStates[doc];
+      return state != NO_STATE ? NEWS_STATES[state] : null;
+    }
+  }
+
+  private static final INews.State[] NEWS_STATES = INews.State.values();
+
+  private final Map<IndexReader, Values> fCache = new WeakHashMap<IndexReader, Values>(3);
+
+  /**
+   * @param reader The <code>IndexReader</code> to get the Values for.
+   * @return the cached Values of the given <code>IndexReader</code>.
+   * @throws IOException In case of an error reading from the Index.
+   */
+  synchronized Values get(IndexReader reader) throws IOException {
+    Values values = fCache.get(reader);
+    if (values == null) {
+      values = load(reader);
+      fCache.put(reader, values);
+    }
+
+    return values;
+  }
+
+  /**
+   * Removes the Values of the given <code>IndexReader</code> from the cache.
+   *
+   * @param reader The <code>IndexReader</code> that is closed.
+   */
+  synchronized void remove(IndexReader reader) {
+    fCache.remove(reader);
+  }
+
+  private Values load(IndexReader reader) throws IOException {
+    int maxDoc = reader.maxDoc();
+
+    long[] ids = new long[maxDoc];
+    Arrays.fill(ids, NO_ID);
+
+    byte[] states = new byte[maxDoc];
+    Arrays.fill(states, NO_STATE);
+
+    TermDocs termDocs = reader.termDocs();
+    try {
+      load(reader, termDocs, SearchDocument.ENTITY_ID_TEXT, ids, null);
+      load(reader, termDocs, NewsDocument.STATE_ID_TEXT, null, states);
+    } finally {
+      termDocs.close();
+    }
+
+    return new Values(ids, states);
+  }
+
+  private void load(IndexReader reader, TermDocs termDocs, String field, long[] ids, byte[] states) throws IOException {
+    TermEnum termEnum = reader.terms(new Term(field, ""));
+    try {
+      do {
+        Term term = termEnum.term();
+        if (term == null || !field.equals(term.field()))
+          break;
+
+        long value = Long.parseLong(term.text());
+        termDocs.seek(termEnum);
+        while (termDocs.next()) {
+          if (ids != null)
+            ids[termDocs.doc()] = value;
+          else
+            states[termDocs.doc()] = (byte) value;
+        }
+      } while (termEnum.next());
+    } finally {
+      termEnum.close();
+    }
+  }
+}
@@ -270,6 +270,14 @@ public final class DBHelper {
   }
 
   public static final INews peekPersistedNews(ObjectContainer db, INews news) {
+    if (!db.ext().isStored(news))
+      return null;
+
+    /* Use the snapshot of the News to avoid reading it from the DB again */
+    INews snapshot = ((News) news).getSnapshot();
+    if (snapshot != null)
+      return snapshot;
+
     INews oldNews = db.ext().peekPersisted(news, 2, true);
     if (oldNews instanceof News) {
       ((News) oldNews).init();
@@ -648,6 +648,7 @@ public class DBManager {
     }
     System.gc();
 
+    newsCounter.setReadAndTotalCounted(true);
     destinationDb.ext().set(newsCounter, Integer.MAX_VALUE);
     monitor.worked(30);
 
@@ -683,7 +684,9 @@ public class DBManager {
     Map<State, Integer> stateToCountMap = feed.getNewsCount();
     int unreadCount = getCount(stateToCountMap, EnumSet.of(State.NEW, State.UNREAD, State.UPDATED));
     Integer newCount = stateToCountMap.get(INews.State.NEW);
-    newsCounter.put(feed.getLink(), new NewsCounterItem(newCount, unreadCount, feed.getStickyCount()));
+    int readCount = stateToCountMap.get(INews.State.READ);
+    int totalCount = getCount(stateToCountMap, EnumSet.allOf(State.class));
+    newsCounter.put(feed.getLink(), new NewsCounterItem(newCount, unreadCount, feed.getStickyCount(), readCount, totalCount));
   }
 
   private static int getCount(Map<State, Integer> stateToCountMap, Set<State> states) {
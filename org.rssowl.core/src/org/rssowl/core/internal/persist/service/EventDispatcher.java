@@ -0,0 +1,280 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.service;
+
+import org.eclipse.core.runtime.SafeRunner;
+import org.rssowl.core.persist.event.AsyncEntityListener;
+import org.rssowl.core.persist.event.EntityListener;
+import org.rssowl.core.persist.event.ModelEvent;
+import org.rssowl.core.persist.event.runnable.EventType;
+import org.rssowl.core.util.LoggingSafeRunnable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers entity events to <code>EntityListener</code>s. Listeners that
+ * implement <code>AsyncEntityListener</code> are notified from a small pool of
+ * background threads if asynchronous dispatch is enabled, all others are
+ * notified in the calling thread.
+ * <p>
+ * Every asynchronous listener has its own queue of pending events that is
+ * drained by at most one thread at a time, so that a listener sees events in
+ * the order in which they were fired. Pending events of the same type are
+ * merged into a single call.
+ * </p>
+ */
+public final class EventDispatcher {
+
+  /* Set to TRUE to notify AsyncEntityListeners from a Background Thread */
+  private static final boolean ASYNC_EVENTS = Boolean.getBoolean("rssowl.asyncevents"); //$NON-NLS-1$
+
+  /* Number of Threads notifying AsyncEntityListeners */
+  private static final int DISPATCH_THREADS = Integer.getInteger("rssowl.asyncevents.threads", 2).intValue(); //$NON-NLS-1$
+
+  private static EventDispatcher fgInstance;
+
+  /* Events waiting to be delivered to a single Listener */
+  private static final class ListenerQueue {
+    private final LinkedList<Pending> fPending = new LinkedList<Pending>();
+    private boolean fScheduled;
+    private boolean fDiscarded;
+  }
+
+  /* A Set of Events of the same Type and the time they were fired first */
+  private static final class Pending {
+    final EventType fEventType;
+    final Set<ModelEvent> fEvents;
+    final long fFiredTime;
+
+    Pending(EventType eventType, Set<ModelEvent> events, long firedTime) {
+      fEventType = eventType;
+      fEvents = events;
+      fFiredTime = firedTime;
+    }
+  }
+
+  private final Map<EntityListener<?, ?>, ListenerQueue> fQueues = new ConcurrentHashMap<EntityListener<?, ?>, ListenerQueue>();
+  private final boolean fAsync;
+  private final ExecutorService fExecutor;
+  private final AtomicInteger fQueuedEventCount = new AtomicInteger();
+  private long fDeliveredCount;
+  private long fTotalLatency;
+  private long fMaxLatency;
+
+  /**
+   * Creates a new dispatcher. Outside of tests, the instance returned from
+   * {@link #getDefault()} should be used.
+   *
+   * @param async <code>true</code> to notify <code>AsyncEntityListener</code>s
+   * from a background thread.
+   * @param threads The number of threads notifying
+   * <code>AsyncEntityListener</code>s.
+   */
+  public EventDispatcher(boolean async, int threads) {
+    fAsync = async;
+    fExecutor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      private final AtomicInteger fThreadCount = new AtomicInteger();
+
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "Event Dispatcher " + fThreadCount.incrementAndGet()); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  /**
+   * @return The singleton instance of this class.
+   */
+  public static synchronized EventDispatcher getDefault() {
+    if (fgInstance == null)
+      fgInstance = new EventDispatcher(ASYNC_EVENTS, DISPATCH_THREADS);
+
+    return fgInstance;
+  }
+
+  /**
+   * @return <code>true</code> if <code>AsyncEntityListener</code>s are
+   * notified from a background thread by the default instance.
+   */
+  public static boolean isAsyncEnabled() {
+    return ASYNC_EVENTS;
+  }
+
+  /**
+   * Notifies <code>listener</code> about <code>events</code>, either right
+   * away or from a background thread if it is an
+   * <code>AsyncEntityListener</code> and asynchronous dispatch is enabled.
+   *
+   * @param <E> The type of <code>ModelEvent</code>.
+   * @param listener The Listener to notify.
+   * @param events The Events to deliver.
+   * @param eventType The type of the Events.
+   */
+  public <E extends ModelEvent> void dispatch(EntityListener<E, ?> listener, Set<E> events, EventType eventType) {
+    if (!fAsync || !(listener instanceof AsyncEntityListener)) {
+      notifyListener(listener, events, eventType);
+      return;
+    }
+
+    ListenerQueue queue = getQueue(listener);
+    synchronized (queue) {
+      if (queue.fDiscarded)
+        return;
+
+      /* Merge with the last pending Events if they are of the same Type */
+      Pending last = queue.fPending.isEmpty() ? null : queue.fPending.getLast();
+      if (last != null && last.fEventType == eventType) {
+        int size = last.fEvents.size();
+        last.fEvents.addAll(events);
+        fQueuedEventCount.addAndGet(last.fEvents.size() - size);
+      } else {
+        Pending pending = new Pending(eventType, new HashSet<ModelEvent>(events), System.currentTimeMillis());
+        queue.fPending.add(pending);
+        fQueuedEventCount.addAndGet(pending.fEvents.size());
+      }
+
+      if (!queue.fScheduled) {
+        queue.fScheduled = true;
+        fExecutor.execute(createDrainRunnable(listener, queue));
+      }
+    }
+  }
+
+  /**
+   * Drops all Events that are waiting to be delivered to
+   * <code>listener</code>. Should be called when the Listener is removed.
+   *
+   * @param listener The Listener that is no longer interested in Events.
+   */
+  public void discard(EntityListener<?, ?> listener) {
+    ListenerQueue queue = fQueues.remove(listener);
+    if (queue != null) {
+      synchronized (queue) {
+        queue.fDiscarded = true;
+        for (Pending pending : queue.fPending)
+          fQueuedEventCount.addAndGet(-pending.fEvents.size());
+        queue.fPending.clear();
+      }
+    }
+  }
+
+  /**
+   * @return The number of Events that have been fired but not yet delivered
+   * to an <code>AsyncEntityListener</code>. Events that have been merged with
+   * an equal pending Event are counted once.
+   */
+  public int getQueueDepth() {
+    return fQueuedEventCount.get();
+  }
+
+  /**
+   * @return The average time in milliseconds between firing Events and
+   * delivering them to an <code>AsyncEntityListener</code>, or <code>0</code>
+   * if none were delivered yet.
+   */
+  public synchronized long getAverageLatency() {
+    return fDeliveredCount == 0 ? 0 : fTotalLatency / fDeliveredCount;
+  }
+
+  /**
+   * @return The longest time in milliseconds between firing Events and
+   * delivering them to an <code>AsyncEntityListener</code>.
+   */
+  public synchronized long getMaxLatency() {
+    return fMaxLatency;
+  }
+
+  private ListenerQueue getQueue(EntityListener<?, ?> listener) {
+    ListenerQueue queue = fQueues.get(listener);
+    if (queue == null) {
+      synchronized (fQueues) {
+        queue = fQueues.get(listener);
+        if (queue == null) {
+          queue = new ListenerQueue();
+          fQueues.put(listener, queue);
+        }
+      }
+    }
+    return queue;
+  }
+
+  private <E extends ModelEvent> Runnable createDrainRunnable(final EntityListener<E, ?> listener, final ListenerQueue queue) {
+    return new Runnable() {
+      @SuppressWarnings("unchecked")
+      public void run() {
+        while (true) {
+          Pending pending;
+          synchronized (queue) {
+            if (queue.fPending.isEmpty() || queue.fDiscarded) {
+              queue.fScheduled = false;
+              return;
+            }
+            pending = queue.fPending.removeFirst();
+          }
+
+          fQueuedEventCount.addAndGet(-pending.fEvents.size());
+          recordLatency(System.currentTimeMillis() - pending.fFiredTime);
+          notifyListener(listener, Collections.unmodifiableSet((Set<E>) pending.fEvents), pending.fEventType);
+        }
+      }
+    };
+  }
+
+  private synchronized void recordLatency(long latency) {
+    fDeliveredCount++;
+    fTotalLatency += latency;
+    fMaxLatency = Math.max(fMaxLatency, latency);
+  }
+
+  private <E extends ModelEvent> void notifyListener(final EntityListener<E, ?> listener, final Set<E> events, final EventType eventType) {
+    SafeRunner.run(new LoggingSafeRunnable() {
+      public void run() throws Exception {
+        switch (eventType) {
+          case PERSIST:
+            listener.entitiesAdded(events);
+            break;
+          case UPDATE:
+            listener.entitiesUpdated(events);
+            break;
+          case REMOVE:
+            listener.entitiesDeleted(events);
+            break;
+          default:
+            throw new IllegalArgumentException("eventType unknown: " + eventType);
+        }
+      }
+    });
+  }
+}
@@ -205,9 +205,10 @@ public class EventManager implements DatabaseListener   {
     if (entity == null)
       return;
 
-    if (entity instanceof News)
+    if (entity instanceof News) {
       ((News) entity).init();
-    else if (entity instanceof BookMark)
+      ((News) entity).resetSnapshot();
+    } else if (entity instanceof BookMark)
       initBookMark((BookMark) entity);
   }
 
@@ -216,6 +217,7 @@ public class EventManager implements DatabaseListener   {
   }
 
   private void processUpdatedEvent(EventArgs args) {
+    invalidateDescription(args);
     IEntity entity = getEntity(args);
     if (entity == null)
       return;
@@ -223,6 +225,10 @@ public class EventManager implements DatabaseListener   {
     ModelEvent event = createModelEvent(entity);
     if (event != null)
       EventsMap.getInstance().putUpdateEvent(event);
+
+    /* The stored state is the persisted one now */
+    if (entity instanceof News)
+      ((News) entity).resetSnapshot();
   }
 
   /*
@@ -248,6 +254,7 @@ public class EventManager implements DatabaseListener   {
   }
 
   private void processCreatedEvent(EventArgs args) {
+    invalidateDescription(args);
     IEntity entity = getEntity(args);
     if (entity == null)
       return;
@@ -255,6 +262,10 @@ public class EventManager implements DatabaseListener   {
     ModelEvent event = createModelEvent(entity);
     if (event != null)
       EventsMap.getInstance().putPersistEvent(event);
+
+    /* The stored state is the persisted one now */
+    if (entity instanceof News)
+      ((News) entity).resetSnapshot();
   }
 
   private void processDeletingEvent(EventArgs args) {
@@ -465,6 +476,7 @@ public class EventManager implements DatabaseListener   {
   }
 
   private void processDeletedEvent(EventArgs args) {
+    invalidateDescription(args);
     IEntity entity = getEntity(args);
     if (entity == null)
       return;
@@ -474,6 +486,13 @@ public class EventManager implements DatabaseListener   {
       EventsMap.getInstance().putRemoveEvent(event);
   }
 
+  /* Descriptions are not entities, but their cached values must be dropped on change */
+  private void invalidateDescription(EventArgs args) {
+    Object o = ((ObjectEventArgs) args).object();
+    if (o instanceof Description)
+      DBHelper.getDescriptionDAO().invalidate(((Description) o).getNewsId());
+  }
+
   private IEntity getEntity(EventArgs args) {
     ObjectEventArgs queryArgs = ((ObjectEventArgs) args);
     Object o = queryArgs.object();
@@ -0,0 +1,121 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.service;
+
+import java.util.Collection;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped Locks that serialize the changes to the News of a Feed. A Feed is
+ * mapped to one of the Locks by its Link. The reload of a Feed is merged while
+ * holding the Lock of the Feed only, so any other code that changes News has
+ * to acquire the Locks of their Feeds as well.
+ * <p>
+ * The Locks must be acquired before the Locks of the News and before the
+ * global write lock. If a thread needs several of them, they are acquired in
+ * ascending order with {@link #lock(Collection)} or {@link #lockAll()}.
+ * </p>
+ */
+public final class FeedLocks {
+
+  /* Number of Locks the Feeds are mapped to */
+  private static final int STRIPES = 64;
+
+  private static final Lock[] LOCKS = new Lock[STRIPES];
+
+  static {
+    for (int i = 0; i < LOCKS.length; i++)
+      LOCKS[i] = new ReentrantLock();
+  }
+
+  private FeedLocks() {
+    super();
+  }
+
+  /**
+   * @param feedLink the Link of the Feed.
+   * @return the Lock of the Feed with the given Link.
+   */
+  public static Lock getLock(String feedLink) {
+    return LOCKS[indexOf(feedLink)];
+  }
+
+  /**
+   * Acquires the Locks of the Feeds with the given Links in ascending order.
+   *
+   * @param feedLinks the Links of the Feeds to lock.
+   */
+  public static void lock(Collection<String> feedLinks) {
+    boolean[] stripes = getStripes(feedLinks);
+    for (int i = 0; i < stripes.length; i++) {
+      if (stripes[i])
+        LOCKS[i].lock();
+    }
+  }
+
+  /**
+   * Releases the Locks that have been acquired with
+   * {@link #lock(Collection)} for the given Links.
+   *
+   * @param feedLinks the Links of the Feeds to unlock.
+   */
+  public static void unlock(Collection<String> feedLinks) {
+    boolean[] stripes = getStripes(feedLinks);
+    for (int i = stripes.length - 1; i >= 0; i--) {
+      if (stripes[i])
+        LOCKS[i].unlock();
+    }
+  }
+
+  /**
+   * Acquires the Locks of all Feeds in ascending order. This is needed when
+   * the Feeds of the News that are changed are not known in advance.
+   */
+  public static void lockAll() {
+    for (Lock lock : LOCKS)
+      lock.lock();
+  }
+
+  /**
+   * Releases the Locks that have been acquired with {@link #lockAll()}.
+   */
+  public static void unlockAll() {
+    for (int i = LOCKS.length - 1; i >= 0; i--)
+      LOCKS[i].unlock();
+  }
+
+  private static boolean[] getStripes(Collection<String> feedLinks) {
+    boolean[] stripes = new boolean[STRIPES];
+    for (String feedLink : feedLinks)
+      stripes[indexOf(feedLink)] = true;
+
+    return stripes;
+  }
+
+  private static int indexOf(String feedLink) {
+    return (feedLink.hashCode() & Integer.MAX_VALUE) % STRIPES;
+  }
+}
@@ -81,6 +81,9 @@ public final class NewsCounterService {
           newsCounterItem.incrementUnreadCounter();
         if (news.isFlagged())
           newsCounterItem.incrementStickyCounter();
+        if (news.getState() == INews.State.READ)
+          newsCounterItem.incrementReadCounter();
+        newsCounterItem.incrementTotalCounter();
 
         if (!newsCounterUpdated)
           updatedCounterItems.put(feedRef.getLink().toString(), newsCounterItem);
@@ -115,8 +118,11 @@ public final class NewsCounterService {
         boolean oldStateSticky = oldNews.isFlagged();
         boolean newStateSticky = currentNews.isFlagged() && currentNews.isVisible();
 
+        boolean oldStateRead = INews.State.READ.equals(oldNews.getState());
+        boolean currentStateRead = INews.State.READ.equals(currentNews.getState());
+
         /* No Change - continue */
-        if (oldStateUnread == currentStateUnread && oldStateNew == currentStateNew && oldStateSticky == newStateSticky)
+        if (oldStateUnread == currentStateUnread && oldStateNew == currentStateNew && oldStateSticky == newStateSticky && oldStateRead == currentStateRead)
           continue;
 
         NewsCounterItem counterItem = fNewsCounter.get(currentNews.getFeedReference().getLink());
@@ -145,6 +151,14 @@ public final class NewsCounterService {
         else if (!oldStateSticky && newStateSticky)
           counterItem.incrementStickyCounter();
 
+        /* News no longer Read */
+        if (oldStateRead && !currentStateRead)
+          counterItem.decrementReadCounter();
+
+        /* News became Read */
+        else if (!oldStateRead && currentStateRead)
+          counterItem.incrementReadCounter();
+
         updatedCounterItems.put(currentNews.getFeedReference().getLink().toString(), counterItem);
       }
       for (NewsCounterItem counterItem : updatedCounterItems.values())
@@ -171,6 +185,9 @@ public final class NewsCounterService {
           counterItem.decrementUnreadCounter();
         if (news.isFlagged() && (!EnumSet.of(INews.State.DELETED, INews.State.HIDDEN).contains(news.getState())))
           counterItem.decrementStickyCounter();
+        if (news.getState() == INews.State.READ)
+          counterItem.decrementReadCounter();
+        counterItem.decrementTotalCounter();
 
         updatedCounterItems.put(news.getFeedReference().getLink().toString(), counterItem);
       }
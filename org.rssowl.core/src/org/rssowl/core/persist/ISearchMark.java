@@ -28,6 +28,7 @@ import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.reference.SearchMarkReference;
 import org.rssowl.core.util.Pair;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -70,5 +71,25 @@ public interface ISearchMark extends INewsMark, ISearch {
    */
   Pair<Boolean, Boolean> setNewsRefs(Map<INews.State, List<NewsReference>> results);
 
+  /**
+   * Updates the result of this search mark for the News with the given IDs
+   * only. The results for these News are represented by a non-null Map
+   * (typically an EnumMap) of <code>INews.State</code> to a List of
+   * <code>NewsReference</code>s that represent the news that match the
+   * search. Any News with one of the given IDs that is not included in the
+   * map is removed from the result. The result for all other News is left
+   * untouched.
+   *
+   * @param newsIds The IDs of the News to update the result for.
+   * @param results The results for the News with the given IDs as non-null
+   * Map (typically an EnumMap) of <code>INews.State</code> to a List of
+   * <code>NewsReference</code>s.
+   * @return Returns a {@link Pair} where the first {@link Boolean} indicates
+   * whether the new result differs from the existing one and the second
+   * {@link Boolean} indicates if there is any *new* news that where added with
+   * the new result.
+   */
+  Pair<Boolean, Boolean> updateNewsRefs(Collection<Long> newsIds, Map<INews.State, List<NewsReference>> results);
+
   SearchMarkReference toReference();
 }
\ No newline at end of file
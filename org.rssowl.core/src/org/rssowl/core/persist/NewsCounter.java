@@ -42,6 +42,7 @@ import java.util.Map;
  */
 public final class NewsCounter extends Persistable {
   private Map<String, NewsCounterItem> fCountersMap;
+  private boolean fReadAndTotalCounted;
 
   /** Leave default constructor for reflection. */
   public NewsCounter() {}
@@ -136,4 +137,59 @@ public final class NewsCounter extends Persistable {
 
     return counter.getStickyCounter();
   }
+
+  /**
+   * Returns the number of read News for the feed with {@code feedLink}.
+   *
+   * @param feedLink The link of the Feed.
+   * @return the number of read News for the Feed having the given link.
+   */
+  public synchronized int getReadCount(URI feedLink) {
+    NewsCounterItem counter = get(feedLink);
+
+    /* Feed has no news */
+    if (counter == null)
+      return 0;
+
+    return counter.getReadCounter();
+  }
+
+  /**
+   * Returns the number of News in any state for the feed with
+   * {@code feedLink}.
+   *
+   * @param feedLink The link of the Feed.
+   * @return the number of News for the Feed having the given link.
+   */
+  public synchronized int getTotalCount(URI feedLink) {
+    NewsCounterItem counter = get(feedLink);
+
+    /* Feed has no news */
+    if (counter == null)
+      return 0;
+
+    return counter.getTotalCounter();
+  }
+
+  /**
+   * Returns <code>true</code> if the read and total counters of the
+   * <code>NewsCounterItem</code>s are valid. This is not the case for
+   * counters that were stored before these counters were introduced.
+   *
+   * @return <code>true</code> if the read and total counters are valid.
+   */
+  public synchronized boolean isReadAndTotalCounted() {
+    return fReadAndTotalCounted;
+  }
+
+  /**
+   * Marks the read and total counters of the <code>NewsCounterItem</code>s as
+   * valid.
+   *
+   * @param readAndTotalCounted <code>true</code> if the read and total
+   * counters are valid.
+   */
+  public synchronized void setReadAndTotalCounted(boolean readAndTotalCounted) {
+    fReadAndTotalCounted = readAndTotalCounted;
+  }
 }
\ No newline at end of file
@@ -42,17 +42,23 @@ public final class NewsCounterItem extends Persistable {
   private int fNewCounter;
   private int fUnreadCounter;
   private int fStickyCounter;
+  private int fReadCounter;
+  private int fTotalCounter;
 
   /** Default constructor for reflection */
   public NewsCounterItem() {}
 
-  public NewsCounterItem(int newCounter, int unreadCounter, int stickyCounter) {
+  public NewsCounterItem(int newCounter, int unreadCounter, int stickyCounter, int readCounter, int totalCounter) {
     Assert.isLegal(newCounter >= 0, "newCounter should be >= 0");
     Assert.isLegal(unreadCounter >= 0, "unreadCounter should be >= 0");
     Assert.isLegal(stickyCounter >= 0, "stickyCounter should be >= 0");
+    Assert.isLegal(readCounter >= 0, "readCounter should be >= 0");
+    Assert.isLegal(totalCounter >= 0, "totalCounter should be >= 0");
     fNewCounter = newCounter;
     fUnreadCounter = unreadCounter;
     fStickyCounter = stickyCounter;
+    fReadCounter = readCounter;
+    fTotalCounter = totalCounter;
   }
 
   /**
@@ -120,4 +126,49 @@ public final class NewsCounterItem extends Persistable {
     Assert.isTrue(fStickyCounter > 0, "stickyCounter must not be negative"); //$NON-NLS-1$
     --fStickyCounter;
   }
+
+  /**
+   * @return Returns the value of *read* News contained in the feed.
+   */
+  public final int getReadCounter() {
+    return fReadCounter;
+  }
+
+  /**
+   * Increment the value of *read* News contained in the feed.
+   */
+  public final void incrementReadCounter() {
+    ++fReadCounter;
+  }
+
+  /**
+   * Decrement the value of *read* News contained in the feed.
+   */
+  public final void decrementReadCounter() {
+    Assert.isTrue(fReadCounter > 0, "readCounter must not be negative"); //$NON-NLS-1$
+    --fReadCounter;
+  }
+
+  /**
+   * @return Returns the value of all News contained in the feed, regardless
+   * of their state.
+   */
+  public final int getTotalCounter() {
+    return fTotalCounter;
+  }
+
+  /**
+   * Increment the value of all News contained in the feed.
+   */
+  public final void incrementTotalCounter() {
+    ++fTotalCounter;
+  }
+
+  /**
+   * Decrement the value of all News contained in the feed.
+   */
+  public final void decrementTotalCounter() {
+    Assert.isTrue(fTotalCounter > 0, "totalCounter must not be negative"); //$NON-NLS-1$
+    --fTotalCounter;
+  }
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ import org.rssowl.core.persist.reference.FeedLinkReference;
 import org.rssowl.core.persist.service.PersistenceException;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -59,6 +60,25 @@ public interface INewsDAO extends IEntityDAO<INews, NewsListener, NewsEvent> {
    */
   void setState(Collection<INews> news, INews.State state, boolean affectEquivalentNews, boolean force) throws PersistenceException;
 
+  /**
+   * Sets the state of all the news items with the given IDs to
+   * <code>state</code> like {@link #setState(Collection, INews.State, boolean, boolean)}
+   * does. Instead of changing all news at once, the news are loaded, changed
+   * and saved in chunks of a fixed size. Each chunk is saved in its own
+   * transaction, so that only the news of one chunk are held in memory and
+   * one batch of events is issued per chunk. IDs of news that no longer exist
+   * are ignored.
+   *
+   * @param newsIds The IDs of the news whose state should be changed.
+   * @param state The state to set the news items to.
+   * @param affectEquivalentNews If set to <code>TRUE</code> the state of
+   * equivalent news in other feeds will also be changed to <code>state</code>
+   * @param force If set to <code>TRUE</code>, the method will update even
+   * those News that match the given state.
+   * @throws PersistenceException
+   */
+  void setState(long[] newsIds, INews.State state, boolean affectEquivalentNews, boolean force) throws PersistenceException;
+
   /**
    * Loads all the news that have a feedReference equal to <code>feedRef</code>
    * and state matching any of <code>states</code>.
@@ -71,6 +91,21 @@ public interface INewsDAO extends IEntityDAO<INews, NewsListener, NewsEvent> {
    */
   Collection<INews> loadAll(FeedLinkReference feedRef, Set<INews.State> states);
 
+  /**
+   * Returns the IDs of all the news that have a feedReference equal to
+   * <code>feedRef</code> and state matching any of <code>states</code>, keyed
+   * by the state of the news. All states are loaded with a single query and
+   * unlike {@link #loadAll(FeedLinkReference, Set)}, the news are not kept in
+   * memory.
+   *
+   * @param feedRef A non-null FeedLinkReference.
+   * @param states A non-null Set (typically EnumSet) containing the all the
+   * acceptable states for the news items.
+   * @return The IDs of the news with <code>feedRef</code> and any of
+   * <code>states</code> by their state. States without news are not contained.
+   */
+  Map<INews.State, long[]> loadIds(FeedLinkReference feedRef, Set<INews.State> states);
+
   /**
    * Finds all the news from the system whose state is equal to one of the
    * elements in {@code states}, changes their state to {@code state} and saves
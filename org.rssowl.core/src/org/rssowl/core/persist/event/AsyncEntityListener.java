@@ -0,0 +1,44 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.persist.event;
+
+/**
+ * Marker interface for <code>EntityListener</code>s that do not need to be
+ * notified in the thread that committed the change. If asynchronous event
+ * dispatch is enabled (by setting the system property
+ * <code>rssowl.asyncevents</code> to <code>true</code>), such listeners are
+ * notified from a background thread after the committing thread has moved on.
+ * <p>
+ * Events are still delivered to each listener in the order in which they were
+ * fired and never concurrently. However, events of the same type that are
+ * fired while the listener is busy may be coalesced into a single call. All
+ * other listeners keep being notified synchronously and in order of
+ * registration.
+ * </p>
+ *
+ * @see EntityListener
+ */
+public interface AsyncEntityListener {
+}
@@ -24,6 +24,8 @@
 
 package org.rssowl.core.persist.service;
 
+import java.util.Collection;
+
 /**
  * The <code>IndexListener</code> is listening on events that make the Index
  * of the <code>IModelSearch</code> implementation update.
@@ -38,6 +40,8 @@ public interface IndexListener {
    *
    * @param entitiesCount The number of entities that have been updated in the
    * index.
+   * @param entityIds The IDs of the entities that have been added, updated or
+   * removed from the index.
    */
-  void indexUpdated(int entitiesCount);
+  void indexUpdated(int entitiesCount, Collection<Long> entityIds);
 }
\ No newline at end of file
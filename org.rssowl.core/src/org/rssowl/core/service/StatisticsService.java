@@ -25,7 +25,7 @@ public class StatisticsService {
 
 		for (IBookMark bookMark : allBookmarks) {
 			read = read + bookMark.getNewsCount(EnumSet.of(State.READ));
-			total = total + bookMark.getNews().size();
+			total = total + bookMark.getNewsCount(EnumSet.allOf(State.class));
 		}
 
 		double percentage = 0;
@@ -28,7 +28,7 @@ import org.eclipse.core.runtime.Assert;
 import org.rssowl.core.persist.INews;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -47,8 +47,33 @@ public class DateUtils {
   /** 1 Day in Millis */
   public static final long DAY = 24L * 60L * 60L * 1000L;
 
-  /* An array of custom date formats */
-  private static final DateFormat[] CUSTOM_DATE_FORMATS;
+  /* An array of custom date format patterns */
+  private static final String[] CUSTOM_DATE_FORMAT_PATTERNS;
+
+  /* The custom date formats per Thread, since SimpleDateFormat is not Thread-Safe */
+  private static final ThreadLocal<DateFormat[]> CUSTOM_DATE_FORMATS = new ThreadLocal<DateFormat[]>() {
+    @Override
+    protected DateFormat[] initialValue() {
+      DateFormat[] formats = new DateFormat[CUSTOM_DATE_FORMAT_PATTERNS.length];
+      for (int i = 0; i < CUSTOM_DATE_FORMAT_PATTERNS.length; i++) {
+        formats[i] = new SimpleDateFormat(CUSTOM_DATE_FORMAT_PATTERNS[i], Locale.ENGLISH);
+        formats[i].setTimeZone(TIMEZONE);
+      }
+
+      return formats;
+    }
+  };
+
+  /* English Month Names as used in RFC 822 Dates */
+  private static final String[] MONTH_NAMES = new String[] { "January", "February", "March", "April", "May", "June", "July", "August", "September", "October", "November", "December" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+
+  /* Timezone Names as used in RFC 822 Dates and their Offset to UTC in Minutes */
+  private static final String[] TIMEZONE_NAMES = new String[] { "GMT", "UT", "UTC", "Z", "EST", "EDT", "CST", "CDT", "MST", "MDT", "PST", "PDT" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+  private static final int[] TIMEZONE_OFFSETS = new int[] { 0, 0, 0, 0, -5 * 60, -4 * 60, -6 * 60, -5 * 60, -7 * 60, -6 * 60, -8 * 60, -7 * 60 };
+  private static final int UNKNOWN_TIMEZONE = Integer.MIN_VALUE;
+
+  /* The first Year a 2-digit Year is mapped to */
+  private static final int TWO_DIGIT_YEAR_START;
 
   /* A Map of common Date Formatter */
   private static final HashMap<String, DateFormat> COMMON_DATE_FORMATS;
@@ -117,8 +142,10 @@ public class DateUtils {
   }
 
   /**
-   * Tries different date formats to parse against the given string
-   * representation to retrieve a valid Date object.
+   * Tries to parse the given string representation into a valid Date object.
+   * Dates in the formats of RFC 822 and RFC 3339 / W3C-DTF that are commonly
+   * used in Feeds are recognized from their shape and parsed without any
+   * locking. All other strings are tried against different date formats.
    *
    * @param strdate Date as String
    * @return Date The parsed Date
@@ -129,8 +156,13 @@ public class DateUtils {
     if (strdate == null || strdate.length() == 0)
       return null;
 
-    Date result = null;
     strdate = strdate.trim();
+
+    /* First try the common Formats */
+    Date result = parseCommonFormats(strdate);
+    if (result != null)
+      return result;
+
     if (strdate.length() > 10) {
 
       /* Open: deal with +4:00 (no zero before hour) */
@@ -154,25 +186,292 @@ public class DateUtils {
       }
     }
 
-    /* Try to parse the date */
-    int i = 0;
-    while (i < CUSTOM_DATE_FORMATS.length) {
+    /* Try to parse the date (formats are confined to the calling Thread) */
+    DateFormat[] customDateFormats = CUSTOM_DATE_FORMATS.get();
+    ParsePosition position = new ParsePosition(0);
+    for (DateFormat customDateFormat : customDateFormats) {
       try {
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        result = customDateFormat.parse(strdate, position);
+        if (result != null)
+          return result;
+      } catch (NumberFormatException e) {
+        /* Try next Format */
+      }
+    }
 
-        /*
-         * This Block needs to be synchronized, because the parse-Method in
-         * SimpleDateFormat is not Thread-Safe.
-         */
-        synchronized (CUSTOM_DATE_FORMATS[i]) {
-          return CUSTOM_DATE_FORMATS[i].parse(strdate);
+    return null;
+  }
+
+  /*
+   * Parses Dates of the form "[EEE[,] ]d MMM yy[yy] HH:mm[:ss] [zone]" (RFC 822)
+   * and "yyyy-MM-dd['T'HH:mm[:ss[.S]][zone]]" (RFC 3339 / W3C-DTF). Returns
+   * NULL for anything else.
+   */
+  private static Date parseCommonFormats(String str) {
+    int length = str.length();
+    if (length >= 10 && str.charAt(4) == '-' && str.charAt(7) == '-')
+      return parseW3CDate(str, length);
+
+    return parseRFC822Date(str, length);
+  }
+
+  private static Date parseW3CDate(String str, int length) {
+    int year = parseDigits(str, 0, 4);
+    int month = parseDigits(str, 5, 7);
+    int day = parseDigits(str, 8, 10);
+    if (year < 0 || month < 1 || month > 12 || day < 0)
+      return null;
+
+    /* Date only */
+    if (length == 10)
+      return toDate(year, month, day, 0, 0, 0, 0, 0);
+
+    /* Time */
+    if (length < 16 || str.charAt(10) != 'T' || str.charAt(13) != ':')
+      return null;
+
+    int hour = parseDigits(str, 11, 13);
+    int minute = parseDigits(str, 14, 16);
+    int second = 0;
+    int millis = 0;
+    int i = 16;
+    if (i < length && str.charAt(i) == ':') {
+      second = parseDigits(str, i + 1, i + 3);
+      i += 3;
+
+      /* Fraction of Second */
+      if (second >= 0 && i < length && str.charAt(i) == '.') {
+        int start = ++i;
+        while (i < length && isDigit(str.charAt(i))) {
+          if (i - start < 3)
+            millis = millis * 10 + str.charAt(i) - '0';
+          i++;
         }
-      } catch (ParseException e) {
+
+        if (i == start)
+          return null;
+
+        for (int j = i - start; j < 3; j++)
+          millis *= 10;
+      }
+    }
+
+    if (hour < 0 || minute < 0 || second < 0)
+      return null;
+
+    /* Timezone (defaults to UTC) */
+    int offset = 0;
+    if (i < length) {
+      if (str.charAt(i) == ' ')
         i++;
-      } catch (NumberFormatException e) {
+
+      offset = parseTimezone(str, i, length);
+      if (offset == UNKNOWN_TIMEZONE)
+        return null;
+    }
+
+    return toDate(year, month, day, hour, minute, second, millis, offset);
+  }
+
+  private static Date parseRFC822Date(String str, int length) {
+    int i = 0;
+
+    /* Optional Day Name */
+    if (i < length && Character.isLetter(str.charAt(i))) {
+      while (i < length && Character.isLetter(str.charAt(i)))
         i++;
-      }
+
+      if (i < length && str.charAt(i) == ',')
+        i++;
+
+      int start = i;
+      i = skipSpaces(str, i, length);
+      if (i == start)
+        return null;
+    }
+
+    /* Day */
+    int start = i;
+    while (i < length && isDigit(str.charAt(i)) && i - start < 2)
+      i++;
+
+    int day = parseDigits(str, start, i);
+    start = i;
+    i = skipSpaces(str, i, length);
+    if (day < 0 || i == start)
+      return null;
+
+    /* Month */
+    start = i;
+    while (i < length && Character.isLetter(str.charAt(i)))
+      i++;
+
+    int month = parseMonth(str, start, i);
+    start = i;
+    i = skipSpaces(str, i, length);
+    if (month < 0 || i == start)
+      return null;
+
+    /* Year */
+    start = i;
+    while (i < length && isDigit(str.charAt(i)))
+      i++;
+
+    int year = parseDigits(str, start, i);
+    if (year < 0)
+      return null;
+    else if (i - start == 2)
+      year = toFourDigitYear(year);
+    else if (i - start != 4)
+      return null;
+
+    start = i;
+    i = skipSpaces(str, i, length);
+    if (i == start)
+      return null;
+
+    /* Time */
+    if (i + 5 > length || str.charAt(i + 2) != ':')
+      return null;
+
+    int hour = parseDigits(str, i, i + 2);
+    int minute = parseDigits(str, i + 3, i + 5);
+    int second = 0;
+    i += 5;
+    if (i < length && str.charAt(i) == ':') {
+      second = parseDigits(str, i + 1, i + 3);
+      i += 3;
+    }
+
+    if (hour < 0 || minute < 0 || second < 0)
+      return null;
+
+    /* Timezone (defaults to UTC) */
+    int offset = 0;
+    if (i < length) {
+      start = i;
+      i = skipSpaces(str, i, length);
+      if (i == start)
+        return null;
+
+      offset = parseTimezone(str, i, length);
+      if (offset == UNKNOWN_TIMEZONE)
+        return null;
+    }
+
+    return toDate(year, month, day, hour, minute, second, 0, offset);
+  }
+
+  /* Returns the offset to UTC in Minutes or UNKNOWN_TIMEZONE */
+  private static int parseTimezone(String str, int from, int to) {
+    int length = to - from;
+    if (length <= 0)
+      return UNKNOWN_TIMEZONE;
+
+    char first = str.charAt(from);
+
+    /* Numeric: +hh:mm, +h:mm, +hhmm or +hh */
+    if (first == '+' || first == '-') {
+      int hours;
+      int minutes = 0;
+      if (length == 6 && str.charAt(from + 3) == ':') {
+        hours = parseDigits(str, from + 1, from + 3);
+        minutes = parseDigits(str, from + 4, to);
+      } else if (length == 5 && str.charAt(from + 2) == ':') {
+        hours = parseDigits(str, from + 1, from + 2);
+        minutes = parseDigits(str, from + 3, to);
+      } else if (length == 5) {
+        hours = parseDigits(str, from + 1, from + 3);
+        minutes = parseDigits(str, from + 3, to);
+      } else if (length == 3) {
+        hours = parseDigits(str, from + 1, to);
+      } else
+        return UNKNOWN_TIMEZONE;
+
+      if (hours < 0 || minutes < 0)
+        return UNKNOWN_TIMEZONE;
+
+      int offset = hours * 60 + minutes;
+      return first == '-' ? -offset : offset;
+    }
+
+    /* Named */
+    for (int i = 0; i < TIMEZONE_NAMES.length; i++) {
+      if (TIMEZONE_NAMES[i].length() == length && str.regionMatches(true, from, TIMEZONE_NAMES[i], 0, length))
+        return TIMEZONE_OFFSETS[i];
     }
-    return result;
+
+    return UNKNOWN_TIMEZONE;
+  }
+
+  /* Returns the Month (1-12) of a short or full english Month Name or -1 */
+  private static int parseMonth(String str, int from, int to) {
+    int length = to - from;
+    if (length < 3)
+      return -1;
+
+    for (int i = 0; i < MONTH_NAMES.length; i++) {
+      String name = MONTH_NAMES[i];
+      if ((length == 3 || length == name.length()) && str.regionMatches(true, from, name, 0, length))
+        return i + 1;
+    }
+
+    return -1;
+  }
+
+  /* Returns the positive Number of the Digits in the given Range or -1 */
+  private static int parseDigits(String str, int from, int to) {
+    if (from >= to || to > str.length())
+      return -1;
+
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      char c = str.charAt(i);
+      if (!isDigit(c))
+        return -1;
+
+      value = value * 10 + c - '0';
+    }
+
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int skipSpaces(String str, int from, int to) {
+    int i = from;
+    while (i < to && str.charAt(i) == ' ')
+      i++;
+
+    return i;
+  }
+
+  /* Same as SimpleDateFormat: 2-digit Years are within 80 Years before and 20 Years after now */
+  private static int toFourDigitYear(int year) {
+    int fourDigitYear = (TWO_DIGIT_YEAR_START / 100) * 100 + year;
+    if (fourDigitYear < TWO_DIGIT_YEAR_START)
+      fourDigitYear += 100;
+
+    return fourDigitYear;
+  }
+
+  /* Fields out of their Range roll over like a lenient Calendar does */
+  private static Date toDate(int year, int month, int day, int hour, int minute, int second, int millis, int offsetMinutes) {
+
+    /* Days since 1970-01-01 of the first Day of the Month (proleptic Gregorian) */
+    int y = month <= 2 ? year - 1 : year;
+    int era = (y >= 0 ? y : y - 399) / 400;
+    int yearOfEra = y - era * 400;
+    int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    long days = era * 146097L + dayOfEra - 719468L + day - 1;
+
+    long time = ((days * 24 + hour) * 60 + minute - offsetMinutes) * 60 + second;
+    return new Date(time * 1000 + millis);
   }
 
   /** Initialize the array of common date formats and formatter */
@@ -212,7 +511,7 @@ public class DateUtils {
     COMMON_DATE_TIME_FORMATS.put(String.valueOf(DateFormat.FULL) + String.valueOf(DateFormat.FULL), DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.FULL));
 
     /* Create Date Formats */
-    final String[] possibleDateFormats = {
+    CUSTOM_DATE_FORMAT_PATTERNS = new String[] {
 
         /* RFC 1123 with 2-digit Year */
         "EEE, dd MMM yy HH:mm:ss z", //$NON-NLS-1$
@@ -281,12 +580,7 @@ public class DateUtils {
         "MMM dd, yyyy" //$NON-NLS-1$
     };
 
-    /* Create the dateformats */
-    CUSTOM_DATE_FORMATS = new SimpleDateFormat[possibleDateFormats.length];
-
-    for (int i = 0; i < possibleDateFormats.length; i++) {
-      CUSTOM_DATE_FORMATS[i] = new SimpleDateFormat(possibleDateFormats[i], Locale.ENGLISH);
-      CUSTOM_DATE_FORMATS[i].setTimeZone(TIMEZONE);
-    }
+    /* Years are taken relative to the time of initialization like SimpleDateFormat does */
+    TWO_DIGIT_YEAR_START = Calendar.getInstance().get(Calendar.YEAR) - 80;
   }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Commits items that are submitted from several threads at about the same
+ * time in batches. A thread announces with {@link #begin()} that it is going
+ * to submit an item, so that a batch is only delayed while such items are
+ * still being prepared. The first thread that submits an item waits for them
+ * (up to a maximum batch size or time window) and commits the whole batch on
+ * behalf of the other threads, which wait until their item was committed.
+ * <p>
+ * If committing a batch fails, the failure is rethrown in every thread that
+ * submitted an item of that batch.
+ * </p>
+ * This object is thread-safe.
+ *
+ * @param <T> The type of the items.
+ */
+public abstract class GroupCommitQueue<T> {
+
+  /* A submitted Item and the outcome of its Commit */
+  private static final class Entry<T> {
+    final T fItem;
+
+    /* Only accessed while holding the commit lock */
+    boolean fCommitted;
+    Throwable fFailure;
+
+    Entry(T item) {
+      fItem = item;
+    }
+  }
+
+  private final long fWindow;
+  private final int fMaxBatchSize;
+  private final List<Entry<T>> fPending = new ArrayList<Entry<T>>();
+  private final Lock fCommitLock = new ReentrantLock();
+
+  /* Number of Items announced but not yet submitted (guarded by fPending) */
+  private int fPreparing;
+
+  /**
+   * @param window The maximum time in milliseconds a batch waits for announced
+   * items.
+   * @param maxBatchSize The maximum number of items committed in one batch.
+   */
+  public GroupCommitQueue(long window, int maxBatchSize) {
+    fWindow = window;
+    fMaxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Announces that the calling thread is going to call either
+   * {@link #submit(Object)} or {@link #cancel()}.
+   */
+  public void begin() {
+    synchronized (fPending) {
+      fPreparing++;
+    }
+  }
+
+  /**
+   * Withdraws an announcement of {@link #begin()} without submitting an item.
+   */
+  public void cancel() {
+    synchronized (fPending) {
+      fPreparing--;
+      fPending.notifyAll();
+    }
+  }
+
+  /**
+   * Submits an item that was announced with {@link #begin()} and returns once
+   * it has been committed, either by this or by another thread.
+   *
+   * @param item The item to commit.
+   * @throws RuntimeException if committing the batch of the item failed.
+   */
+  public void submit(T item) {
+    Entry<T> entry = new Entry<T>(item);
+    synchronized (fPending) {
+      fPreparing--;
+      fPending.add(entry);
+      fPending.notifyAll();
+    }
+
+    fCommitLock.lock();
+    try {
+
+      /* Commit batches until another thread or this one committed the item */
+      while (!entry.fCommitted)
+        commitBatch(drain());
+    } finally {
+      fCommitLock.unlock();
+    }
+
+    if (entry.fFailure instanceof RuntimeException)
+      throw (RuntimeException) entry.fFailure;
+    else if (entry.fFailure instanceof Error)
+      throw (Error) entry.fFailure;
+  }
+
+  /**
+   * Commits the given items. Called from one thread at a time.
+   *
+   * @param items The items to commit.
+   */
+  protected abstract void commit(List<T> items);
+
+  private void commitBatch(List<Entry<T>> batch) {
+    List<T> items = new ArrayList<T>(batch.size());
+    for (Entry<T> entry : batch)
+      items.add(entry.fItem);
+
+    Throwable failure = null;
+    try {
+      commit(items);
+    } catch (RuntimeException e) {
+      failure = e;
+    } catch (Error e) {
+      failure = e;
+    } finally {
+      for (Entry<T> entry : batch) {
+        entry.fCommitted = true;
+        entry.fFailure = failure;
+      }
+    }
+  }
+
+  private List<Entry<T>> drain() {
+    synchronized (fPending) {
+      long deadline = System.currentTimeMillis() + fWindow;
+      long remaining = fWindow;
+
+      /* No need to wait once every announced Item is submitted */
+      while (fPreparing > 0 && fPending.size() < fMaxBatchSize && remaining > 0) {
+        try {
+          fPending.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        remaining = deadline - System.currentTimeMillis();
+      }
+
+      int batchSize = Math.min(fPending.size(), fMaxBatchSize);
+      List<Entry<T>> batch = new ArrayList<Entry<T>>(fPending.subList(0, batchSize));
+      fPending.subList(0, batchSize).clear();
+      return batch;
+    }
+  }
+}
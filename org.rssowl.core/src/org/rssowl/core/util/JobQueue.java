@@ -38,13 +38,17 @@ import org.rssowl.core.internal.Activator;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class allows to add <code>Runnables</code> into a Queue to process
  * them in Jobs up to a certain amount of allowed parallel Jobs.
+ * <p>
+ * Tasks are processed in the order of their <code>ITask.Priority</code> and
+ * in the order they were added for the same Priority. To avoid starvation,
+ * Tasks that had to wait for longer than <code>MAX_TASK_WAIT_TIME</code> are
+ * regularly processed before Tasks with a higher Priority.
+ * </p>
  *
  * @author bpasero
  */
@@ -57,6 +61,9 @@ public class JobQueue {
   /* Delay in ms for the Progress Job to update the Monitor */
   private static final int PROGRESS_UPDATE_DELAY = 300;
 
+  /* Time in ms after which a waiting Task is considered as starving */
+  private static final long MAX_TASK_WAIT_TIME = 60000;
+
   /** This was copied from IProgressConstants to avoid UI dependancy */
   public static final QualifiedName NO_IMMEDIATE_ERROR_PROMPT_PROPERTY = new QualifiedName("org.eclipse.ui.workbench.progress", "delayErrorPrompt"); //$NON-NLS-1$ //$NON-NLS-2$
 
@@ -76,7 +83,7 @@ public class JobQueue {
   private final AtomicInteger fProgressShown = new AtomicInteger(0); // Number of Progress Shown
   private final AtomicInteger fProgressBuf = new AtomicInteger(0); // Buffer for the Progress Monitor
   private final AtomicInteger fScheduledJobs = new AtomicInteger(0); // Count number of running Jobs
-  private final BlockingQueue<ITask> fOpenTasksQueue;
+  private final PriorityTaskQueue fOpenTasksQueue;
 
   /**
    * Creates an instance of <code>JobQueue</code> that allows to add
@@ -100,7 +107,7 @@ public class JobQueue {
     fMaxConcurrentJobs = maxConcurrentJobs;
     fShowProgress = showProgress;
     fProgressDelay = progressDelay;
-    fOpenTasksQueue = new LinkedBlockingQueue<ITask>(maxQueueSize);
+    fOpenTasksQueue = new PriorityTaskQueue(maxQueueSize, MAX_TASK_WAIT_TIME);
 
     /* Eagerly create the Progress-Job if we need one */
     if (showProgress)
@@ -335,6 +342,33 @@ public class JobQueue {
     return fTotalWork.get() - fWorkDone.get() == 0;
   }
 
+  /**
+   * @param priority The Priority of the Tasks to count.
+   * @return the number of Tasks with the given Priority that are waiting in
+   * this Queue to be processed.
+   */
+  public int getQueuedTasksCount(ITask.Priority priority) {
+    return fOpenTasksQueue.size(priority);
+  }
+
+  /**
+   * @param priority The Priority of the Tasks to look at.
+   * @return the average time in milliseconds that Tasks with the given
+   * Priority waited in this Queue before being processed.
+   */
+  public long getAverageWaitTime(ITask.Priority priority) {
+    return fOpenTasksQueue.getAverageWaitTime(priority);
+  }
+
+  /**
+   * @param priority The Priority of the Tasks to look at.
+   * @return the time in milliseconds that the oldest Task with the given
+   * Priority that is still waiting in this Queue has been waiting.
+   */
+  public long getCurrentWaitTime(ITask.Priority priority) {
+    return fOpenTasksQueue.getCurrentWaitTime(priority);
+  }
+
   /**
    * @param listener The Listener to add to the List of Listeners.
    */
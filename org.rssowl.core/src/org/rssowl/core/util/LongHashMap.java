@@ -0,0 +1,214 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.util;
+
+import org.eclipse.core.runtime.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Map from primitive <code>long</code> keys to Objects using open addressing.
+ * Compared to a <code>HashMap</code> with <code>Long</code> keys, no Objects
+ * are created for the keys or the entries of this Map.
+ * <p>
+ * This object is not thread-safe.
+ * </p>
+ *
+ * @param <V> The type of the values in this Map.
+ */
+public class LongHashMap<V> {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private long[] fKeys;
+  private Object[] fValues;
+  private int fSize;
+  private int fThreshold;
+
+  /**
+   * Creates an empty Map.
+   */
+  public LongHashMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty Map that can hold <code>expectedSize</code> entries
+   * without growing.
+   *
+   * @param expectedSize The number of entries that are expected to be added.
+   */
+  public LongHashMap(int expectedSize) {
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity * 3 / 4 < expectedSize)
+      capacity <<= 1;
+
+    allocate(capacity);
+  }
+
+  /**
+   * @return the number of entries in this Map.
+   */
+  public int size() {
+    return fSize;
+  }
+
+  /**
+   * @return <code>true</code> if this Map contains no entries.
+   */
+  public boolean isEmpty() {
+    return fSize == 0;
+  }
+
+  /**
+   * @param key The key to look for.
+   * @return <code>true</code> if this Map contains an entry for the key.
+   */
+  public boolean containsKey(long key) {
+    return fValues[indexOf(key)] != null;
+  }
+
+  /**
+   * @param key The key of the value to return.
+   * @return the value for the key or <code>null</code> if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    return (V) fValues[indexOf(key)];
+  }
+
+  /**
+   * Associates <code>value</code> with <code>key</code>.
+   *
+   * @param key The key of the entry.
+   * @param value The value of the entry. Must not be <code>null</code>.
+   * @return the previous value for the key or <code>null</code> if there was
+   * none.
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    Assert.isNotNull(value);
+
+    int index = indexOf(key);
+    V previous = (V) fValues[index];
+    fKeys[index] = key;
+    fValues[index] = value;
+
+    if (previous == null && ++fSize > fThreshold)
+      rehash(fKeys.length << 1);
+
+    return previous;
+  }
+
+  /**
+   * Removes the entry for the key.
+   *
+   * @param key The key of the entry to remove.
+   * @return the removed value or <code>null</code> if there was none.
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    int index = indexOf(key);
+    V previous = (V) fValues[index];
+    if (previous == null)
+      return null;
+
+    fValues[index] = null;
+    fSize--;
+
+    /* Move following entries of the same cluster into the gap */
+    int mask = fKeys.length - 1;
+    int gap = index;
+    for (int i = (index + 1) & mask; fValues[i] != null; i = (i + 1) & mask) {
+      int home = hash(fKeys[i]) & mask;
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        fKeys[gap] = fKeys[i];
+        fValues[gap] = fValues[i];
+        fValues[i] = null;
+        gap = i;
+      }
+    }
+
+    return previous;
+  }
+
+  /**
+   * Removes all entries from this Map.
+   */
+  public void clear() {
+    Arrays.fill(fValues, null);
+    fSize = 0;
+  }
+
+  /**
+   * @return a List of all values in this Map in no particular order.
+   */
+  @SuppressWarnings("unchecked")
+  public List<V> values() {
+    List<V> values = new ArrayList<V>(fSize);
+    for (Object value : fValues) {
+      if (value != null)
+        values.add((V) value);
+    }
+
+    return values;
+  }
+
+  /* Returns the index of the key or of the free slot to put the key into */
+  private int indexOf(long key) {
+    int mask = fKeys.length - 1;
+    int index = hash(key) & mask;
+    while (fValues[index] != null && fKeys[index] != key)
+      index = (index + 1) & mask;
+
+    return index;
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private void allocate(int capacity) {
+    fKeys = new long[capacity];
+    fValues = new Object[capacity];
+    fThreshold = capacity * 3 / 4;
+  }
+
+  private void rehash(int capacity) {
+    long[] keys = fKeys;
+    Object[] values = fValues;
+    allocate(capacity);
+
+    for (int i = 0; i < keys.length; i++) {
+      if (values[i] != null) {
+        int index = indexOf(keys[i]);
+        fKeys[index] = keys[i];
+        fValues[index] = values[i];
+      }
+    }
+  }
+}
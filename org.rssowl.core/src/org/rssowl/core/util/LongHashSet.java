@@ -0,0 +1,107 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.util;
+
+/**
+ * A Set of primitive <code>long</code> values backed by a
+ * {@link LongHashMap}. Compared to a <code>HashSet</code> of
+ * <code>Long</code>, no Objects are created for the values of this Set.
+ * <p>
+ * This object is not thread-safe.
+ * </p>
+ */
+public class LongHashSet {
+
+  /* Value of every entry in the backing Map */
+  private static final Object PRESENT = new Object();
+
+  private final LongHashMap<Object> fMap;
+
+  /**
+   * Creates an empty Set.
+   */
+  public LongHashSet() {
+    fMap = new LongHashMap<Object>();
+  }
+
+  /**
+   * Creates an empty Set that can hold <code>expectedSize</code> values
+   * without growing.
+   *
+   * @param expectedSize The number of values that are expected to be added.
+   */
+  public LongHashSet(int expectedSize) {
+    fMap = new LongHashMap<Object>(expectedSize);
+  }
+
+  /**
+   * @return the number of values in this Set.
+   */
+  public int size() {
+    return fMap.size();
+  }
+
+  /**
+   * @return <code>true</code> if this Set contains no values.
+   */
+  public boolean isEmpty() {
+    return fMap.isEmpty();
+  }
+
+  /**
+   * @param value The value to look for.
+   * @return <code>true</code> if this Set contains the value.
+   */
+  public boolean contains(long value) {
+    return fMap.containsKey(value);
+  }
+
+  /**
+   * Adds the value to this Set.
+   *
+   * @param value The value to add.
+   * @return <code>true</code> if the value was not yet contained.
+   */
+  public boolean add(long value) {
+    return fMap.put(value, PRESENT) == null;
+  }
+
+  /**
+   * Removes the value from this Set.
+   *
+   * @param value The value to remove.
+   * @return <code>true</code> if the value was contained.
+   */
+  public boolean remove(long value) {
+    return fMap.remove(value) != null;
+  }
+
+  /**
+   * Removes all values from this Set.
+   */
+  public void clear() {
+    fMap.clear();
+  }
+}
@@ -0,0 +1,218 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.util;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A bounded and blocking Queue of <code>ITask</code> that keeps one FIFO
+ * Queue per <code>ITask.Priority</code>. Tasks are taken from the Queue with
+ * the highest Priority first. To prevent starvation, Tasks that waited longer
+ * than a given time are taken before Tasks of higher Priority at a fixed
+ * interval.
+ * <p>
+ * Besides that, the Queue keeps track of the number of queued Tasks and the
+ * time Tasks had to wait per Priority.
+ * </p>
+ */
+public final class PriorityTaskQueue {
+
+  /* A queued Task and the time it was added */
+  private static final class Entry {
+    final ITask fTask;
+    final long fQueuedTime;
+
+    Entry(ITask task, long queuedTime) {
+      fTask = task;
+      fQueuedTime = queuedTime;
+    }
+  }
+
+  private static final ITask.Priority[] PRIORITIES = ITask.Priority.values();
+
+  /* Every Nth Task is taken from a starving lower Priority */
+  private static final int STARVATION_INTERVAL = 4;
+
+  private final int fCapacity;
+  private final long fMaxWaitTime;
+  private final List<LinkedList<Entry>> fQueues;
+  private final long[] fTotalWaitTime;
+  private final long[] fTakenCount;
+  private int fSize;
+  private int fStarvationCounter;
+
+  /**
+   * @param capacity The maximum number of Tasks this Queue accepts before
+   * {@link #put(ITask)} blocks.
+   * @param maxWaitTime The time in milliseconds after which a waiting Task is
+   * considered as starving.
+   */
+  public PriorityTaskQueue(int capacity, long maxWaitTime) {
+    fCapacity = capacity;
+    fMaxWaitTime = maxWaitTime;
+    fQueues = new ArrayList<LinkedList<Entry>>(PRIORITIES.length);
+    for (int i = 0; i < PRIORITIES.length; i++)
+      fQueues.add(new LinkedList<Entry>());
+
+    fTotalWaitTime = new long[PRIORITIES.length];
+    fTakenCount = new long[PRIORITIES.length];
+  }
+
+  /**
+   * Adds the Task to this Queue waiting if necessary for space to become
+   * available.
+   *
+   * @param task The Task to add.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public synchronized void put(ITask task) throws InterruptedException {
+    while (fSize >= fCapacity)
+      wait();
+
+    fQueues.get(indexOf(task.getPriority())).add(new Entry(task, System.currentTimeMillis()));
+    fSize++;
+  }
+
+  /**
+   * Removes and returns the next Task or <code>null</code> if this Queue is
+   * empty.
+   *
+   * @return the next Task or <code>null</code> if none.
+   */
+  public synchronized ITask poll() {
+    if (fSize == 0)
+      return null;
+
+    long now = System.currentTimeMillis();
+
+    /* Take the Task with the highest Priority */
+    int index = -1;
+    for (int i = 0; index == -1 && i < fQueues.size(); i++) {
+      if (!fQueues.get(i).isEmpty())
+        index = i;
+    }
+
+    /* Find the Task of lower Priority that waited longest beyond the max wait time */
+    int starvingIndex = -1;
+    long longestWait = fMaxWaitTime;
+    for (int i = index + 1; i < fQueues.size(); i++) {
+      if (!fQueues.get(i).isEmpty()) {
+        long wait = now - fQueues.get(i).getFirst().fQueuedTime;
+        if (wait > longestWait) {
+          longestWait = wait;
+          starvingIndex = i;
+        }
+      }
+    }
+
+    /* Give a starving Task every STARVATION_INTERVAL Tasks a chance to run */
+    if (starvingIndex != -1 && ++fStarvationCounter >= STARVATION_INTERVAL) {
+      fStarvationCounter = 0;
+      index = starvingIndex;
+    }
+
+    Entry entry = fQueues.get(index).removeFirst();
+    fTotalWaitTime[index] += now - entry.fQueuedTime;
+    fTakenCount[index]++;
+    fSize--;
+    notifyAll();
+
+    return entry.fTask;
+  }
+
+  /**
+   * @param task The Task to look for.
+   * @return <code>true</code> if the Task is queued.
+   */
+  public synchronized boolean contains(ITask task) {
+    for (LinkedList<Entry> queue : fQueues) {
+      for (Entry entry : queue) {
+        if (entry.fTask.equals(task))
+          return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Removes all Tasks from this Queue.
+   */
+  public synchronized void clear() {
+    for (LinkedList<Entry> queue : fQueues)
+      queue.clear();
+
+    fSize = 0;
+    notifyAll();
+  }
+
+  /**
+   * @return <code>true</code> if there are no queued Tasks.
+   */
+  public synchronized boolean isEmpty() {
+    return fSize == 0;
+  }
+
+  /**
+   * @param priority The Priority of the Tasks to count.
+   * @return the number of queued Tasks with the given Priority.
+   */
+  public synchronized int size(ITask.Priority priority) {
+    return fQueues.get(indexOf(priority)).size();
+  }
+
+  /**
+   * @param priority The Priority of the Tasks to look at.
+   * @return the average time in milliseconds that Tasks with the given
+   * Priority have been waiting in this Queue until they were taken, or
+   * <code>0</code> if none was taken yet.
+   */
+  public synchronized long getAverageWaitTime(ITask.Priority priority) {
+    int index = indexOf(priority);
+    if (fTakenCount[index] == 0)
+      return 0;
+
+    return fTotalWaitTime[index] / fTakenCount[index];
+  }
+
+  /**
+   * @param priority The Priority of the Tasks to look at.
+   * @return the time in milliseconds that the oldest queued Task with the
+   * given Priority has been waiting, or <code>0</code> if there is none.
+   */
+  public synchronized long getCurrentWaitTime(ITask.Priority priority) {
+    LinkedList<Entry> queue = fQueues.get(indexOf(priority));
+    if (queue.isEmpty())
+      return 0;
+
+    return System.currentTimeMillis() - queue.getFirst().fQueuedTime;
+  }
+
+  private int indexOf(ITask.Priority priority) {
+    return priority != null ? priority.ordinal() : ITask.Priority.DEFAULT.ordinal();
+  }
+}
@@ -36,9 +36,7 @@ import org.rssowl.core.persist.pref.IPreferenceScope;
 import org.rssowl.core.persist.service.PersistenceException;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -53,8 +51,13 @@ public class RetentionStrategy {
   /* One Day in millis */
   private static final long DAY = 24 * 60 * 60 * 1000;
 
+  /* Number of News to delete at once while processing a Folder */
+  private static final int DELETE_BATCH_SIZE = 500;
+
   /**
-   * Runs the Retention on the given <code>IFolder</code>.
+   * Runs the Retention on the given <code>IFolder</code>. The Feeds of the
+   * Folder are processed one after the other and News are deleted in batches,
+   * so that the News of all Feeds are never held in memory at the same time.
    *
    * @param folder The <code>IFolder</code> to run the Retention on.
    */
@@ -62,9 +65,8 @@ public class RetentionStrategy {
     List<INews> newsToDelete = new ArrayList<INews>();
     internalProcess(folder, newsToDelete);
 
-    /* Perform Deletion */
-    if (newsToDelete.size() > 0)
-      Owl.getPersistenceService().getDAOService().getNewsDAO().setState(newsToDelete, INews.State.DELETED, false, false);
+    /* Perform Deletion of remaining News */
+    deleteNews(newsToDelete);
   }
 
   private static void internalProcess(IFolder folder, List<INews> newsToDelete) throws PersistenceException {
@@ -75,14 +77,26 @@ public class RetentionStrategy {
       if (child instanceof IBookMark) {
         IBookMark bookmark = (IBookMark) child;
         if (requiresRetention(bookmark)) {
-          List<INews> visibleNews = bookmark.getFeedLinkReference().resolve().getVisibleNews();
-          newsToDelete.addAll(getNewsToDelete(bookmark, visibleNews));
+          IFeed feed = bookmark.getFeedLinkReference().resolve();
+          if (feed != null)
+            newsToDelete.addAll(getNewsToDelete(bookmark, feed.getVisibleNews()));
+
+          /* Perform Deletion once a Batch is full */
+          if (newsToDelete.size() >= DELETE_BATCH_SIZE)
+            deleteNews(newsToDelete);
         }
       } else if (child instanceof IFolder)
         internalProcess((IFolder) child, newsToDelete);
     }
   }
 
+  private static void deleteNews(List<INews> newsToDelete) {
+    if (newsToDelete.size() > 0) {
+      Owl.getPersistenceService().getDAOService().getNewsDAO().setState(newsToDelete, INews.State.DELETED, false, false);
+      newsToDelete.clear();
+    }
+  }
+
   private static boolean requiresRetention(IBookMark bookmark) {
     IPreferenceScope prefs = Owl.getPreferenceService().getEntityScope(bookmark);
 
@@ -154,42 +168,75 @@ public class RetentionStrategy {
   }
 
   private static List<INews> getNewsToDelete(IBookMark bookmark, Collection<INews> targetNews, int minCountToKeep) {
-    List<INews> newsToDelete = new ArrayList<INews>();
     IPreferenceScope prefs = Owl.getPreferenceService().getEntityScope(bookmark);
     boolean keepUnread = prefs.getBoolean(DefaultPreferences.NEVER_DEL_UNREAD_NEWS_STATE);
+    boolean deleteRead = prefs.getBoolean(DefaultPreferences.DEL_READ_NEWS_STATE);
+    boolean deleteByAge = prefs.getBoolean(DefaultPreferences.DEL_NEWS_BY_AGE_STATE);
+    boolean deleteByCount = prefs.getBoolean(DefaultPreferences.DEL_NEWS_BY_COUNT_STATE);
+    long maxAge = deleteByAge ? DateUtils.getToday().getTimeInMillis() - (prefs.getInteger(DefaultPreferences.DEL_NEWS_BY_AGE_VALUE) * DAY) : 0;
 
-    /* Delete Read News if set */
-    if (prefs.getBoolean(DefaultPreferences.DEL_READ_NEWS_STATE))
-      fillReadNewsToDelete(targetNews, newsToDelete);
+    INews[] news = targetNews.toArray(new INews[targetNews.size()]);
+    boolean[] delete = new boolean[news.length];
+    int deleteCount = 0;
 
-    /* Delete by Age if set */
-    if (prefs.getBoolean(DefaultPreferences.DEL_NEWS_BY_AGE_STATE))
-      fillNewsToDeleteByAge(targetNews, newsToDelete, prefs.getInteger(DefaultPreferences.DEL_NEWS_BY_AGE_VALUE), keepUnread);
+    /* News that may be deleted by Count and their Date */
+    int[] candidates = deleteByCount ? new int[news.length] : null;
+    long[] candidateDates = deleteByCount ? new long[news.length] : null;
+    int candidateCount = 0;
 
-    /* Delete by Count if set */
-    if (prefs.getBoolean(DefaultPreferences.DEL_NEWS_BY_COUNT_STATE))
-      fillNewsToDeleteByCount(targetNews, newsToDelete, Math.max(minCountToKeep, prefs.getInteger(DefaultPreferences.DEL_NEWS_BY_COUNT_VALUE)), keepUnread);
+    /* Evaluate Read and Age Rules in one pass and collect Candidates for the Count Rule */
+    for (int i = 0; i < news.length; i++) {
+      INews newsItem = news[i];
 
-    return newsToDelete;
-  }
-
-  private static void fillReadNewsToDelete(Collection<INews> targetNews, List<INews> newsToDelete) {
-    for (INews newsItem : targetNews) {
-      if (!shouldKeep(newsItem) && newsItem.getState() == INews.State.READ)
-        newsToDelete.add(newsItem);
-    }
-  }
+      /* Keep Sticky and Labeled */
+      if (shouldKeep(newsItem))
+        continue;
 
-  private static void fillNewsToDeleteByAge(Collection<INews> targetNews, List<INews> newsToDelete, int days, boolean keepUnread) {
-    long maxAge = DateUtils.getToday().getTimeInMillis() - (days * DAY);
-    for (INews newsItem : targetNews) {
       State state = newsItem.getState();
+
+      /* Delete Read News if set */
+      if (deleteRead && state == INews.State.READ) {
+        delete[i] = true;
+        deleteCount++;
+        continue;
+      }
+
+      /* Keep Unread (if set) */
       boolean isUnread = (state == INews.State.NEW || state == INews.State.UPDATED || state == INews.State.UNREAD);
+      if (isUnread && keepUnread)
+        continue;
+
+      long date = (deleteByAge || deleteByCount) ? DateUtils.getRecentDate(newsItem).getTime() : 0;
+
+      /* Delete by Age if set */
+      if (deleteByAge && date <= maxAge) {
+        delete[i] = true;
+        deleteCount++;
+      }
+
+      /* Remember as Candidate for Delete by Count */
+      else if (deleteByCount) {
+        candidates[candidateCount] = i;
+        candidateDates[candidateCount] = date;
+        candidateCount++;
+      }
+    }
 
-      /* Keep Sticky and Unread (if set) */
-      if (!shouldKeep(newsItem) && !(isUnread && keepUnread) && !newsToDelete.contains(newsItem) && DateUtils.getRecentDate(newsItem).getTime() <= maxAge)
-        newsToDelete.add(newsItem);
+    /* Delete by Count if set */
+    if (deleteByCount) {
+      int limit = Math.max(minCountToKeep, prefs.getInteger(DefaultPreferences.DEL_NEWS_BY_COUNT_VALUE));
+      int toDeleteCount = Math.min(news.length - deleteCount - limit, candidateCount);
+      if (toDeleteCount > 0)
+        deleteCount += markOldest(candidates, candidateDates, candidateCount, toDeleteCount, delete);
     }
+
+    List<INews> newsToDelete = new ArrayList<INews>(deleteCount);
+    for (int i = 0; i < news.length; i++) {
+      if (delete[i])
+        newsToDelete.add(news[i]);
+    }
+
+    return newsToDelete;
   }
 
   /* Keep sticky news or news with a label */
@@ -197,44 +244,62 @@ public class RetentionStrategy {
     return news.isFlagged() || !news.getLabels().isEmpty();
   }
 
-  private static void fillNewsToDeleteByCount(Collection<INews> targetNews, List<INews> newsToDelete, int limit, boolean keepUnread) {
-
-    /* Ignore News that are in List of Deleted News already */
-    int actualSize = targetNews.size() - newsToDelete.size();
-
-    /* First check if this rule applies at all */
-    if (actualSize <= limit)
-      return;
-
-    /* Fill actual items into Array */
-    INews newsArray[] = new INews[actualSize];
-    int i = 0;
-    for (INews news : targetNews) {
-      if (!newsToDelete.contains(news)) {
-        newsArray[i] = news;
-        i++;
-      }
+  /*
+   * Marks the given number of oldest Candidates as deleted. Candidates with the
+   * same Date are taken in the order they appear, which is the order a stable
+   * sort by Date would have. Instead of sorting all Candidates, the Date of the
+   * youngest Candidate to delete is selected in linear time.
+   */
+  private static int markOldest(int[] candidates, long[] dates, int count, int toDeleteCount, boolean[] delete) {
+    long[] selection = new long[count];
+    System.arraycopy(dates, 0, selection, 0, count);
+    long maxDate = select(selection, toDeleteCount - 1);
+
+    int olderCount = 0;
+    for (int i = 0; i < count; i++) {
+      if (dates[i] < maxDate)
+        olderCount++;
     }
 
-    /* Sort by Date */
-    Arrays.sort(newsArray, new Comparator<INews>() {
-      public int compare(INews news1, INews news2) {
-        return DateUtils.getRecentDate(news1).compareTo(DateUtils.getRecentDate(news2));
-      }
-    });
+    int sameDateCount = toDeleteCount - olderCount;
+    for (int i = 0; i < count; i++) {
+      if (dates[i] < maxDate || (dates[i] == maxDate && sameDateCount-- > 0))
+        delete[candidates[i]] = true;
+    }
 
-    /* Delete oldest elements that exceed limit and are not sticky */
-    int toDeleteValue = actualSize - limit;
-    int deletedCounter = 0;
-    for (i = 0; i < newsArray.length && deletedCounter != toDeleteValue; i++) {
-      State state = newsArray[i].getState();
-      boolean isUnread = (state == INews.State.NEW || state == INews.State.UPDATED || state == INews.State.UNREAD);
+    return toDeleteCount;
+  }
 
-      /* Keep Flagged and Unread (if set) */
-      if (!shouldKeep(newsArray[i]) && !(isUnread && keepUnread)) {
-        newsToDelete.add(newsArray[i]);
-        deletedCounter++;
+  /* Returns the k-th smallest value (0-based) reordering the given values */
+  private static long select(long[] values, int k) {
+    int left = 0;
+    int right = values.length - 1;
+    while (left < right) {
+      long pivot = values[(left + right) >>> 1];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (values[i] < pivot)
+          i++;
+        while (values[j] > pivot)
+          j--;
+        if (i <= j) {
+          long tmp = values[i];
+          values[i] = values[j];
+          values[j] = tmp;
+          i++;
+          j--;
+        }
       }
+
+      if (k <= j)
+        right = j;
+      else if (k >= i)
+        left = i;
+      else
+        return values[k];
     }
+
+    return values[k];
   }
-}
\ No newline at end of file
+}
@@ -49,15 +49,20 @@ import org.rssowl.core.util.URIUtils;
 import org.rssowl.ui.internal.editors.feed.NewsBrowserLabelProvider;
 import org.rssowl.ui.internal.editors.feed.NewsBrowserViewer;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.BindException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -69,6 +74,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * The <code>NewsServer</code> is a Singleton that serves HTML for a request
@@ -116,8 +125,45 @@ public class ApplicationServer {
   /* Windows only: Mark of the Web */
   private static final String IE_MOTW = "<!-- saved from url=(0014)about:internet -->"; //$NON-NLS-1$
 
-  /* RFC 1123 Date Format for the respond header */
-  private static final DateFormat RFC_1123_DATE = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH); //$NON-NLS-1$
+  /* RFC 1123 Date Format for the respond header (per Thread, since SimpleDateFormat is not Thread-Safe) */
+  private static final ThreadLocal<DateFormat> RFC_1123_DATE = new ThreadLocal<DateFormat>() {
+    @Override
+    protected DateFormat initialValue() {
+      return new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH); //$NON-NLS-1$
+    }
+  };
+
+  /* Time in millis an idle Connection is kept alive */
+  private static final int KEEP_ALIVE_TIMEOUT = 15000;
+
+  /* A Stream that writes everything using the chunked Transfer-Encoding of HTTP 1.1 */
+  private static class ChunkedOutputStream extends FilterOutputStream {
+    ChunkedOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (len == 0)
+        return;
+
+      out.write(Integer.toHexString(len).getBytes());
+      out.write(CRLF.getBytes());
+      out.write(b, off, len);
+      out.write(CRLF.getBytes());
+    }
+
+    /* Writes the last Chunk without closing the underlying Stream */
+    void finish() throws IOException {
+      out.write(("0" + CRLF + CRLF).getBytes()); //$NON-NLS-1$
+      out.flush();
+    }
+  }
 
   /* Interface used to handle a startup-handshake */
   static interface HandshakeHandler {
@@ -133,6 +179,7 @@ public class ApplicationServer {
 
   private ServerSocket fSocket;
   private Job fServerJob;
+  private ExecutorService fWorkerPool;
   private int fPort;
   private HandshakeHandler fHandshakeHandler;
 
@@ -175,6 +222,8 @@ public class ApplicationServer {
       if (Activator.getDefault() != null)
         Activator.getDefault().logError(e.getMessage(), e);
     }
+
+    fWorkerPool.shutdownNow();
   }
 
   /**
@@ -372,6 +421,15 @@ public class ApplicationServer {
 
   private void listen() {
 
+    /* Connections are served by a Pool of Workers */
+    fWorkerPool = Executors.newCachedThreadPool(new ThreadFactory() {
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "Local News Viewer Server Worker"); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+
     /* Create a Job to listen for Requests */
     fServerJob = new Job("Local News Viewer Server") { //$NON-NLS-1$
       @Override
@@ -379,45 +437,24 @@ public class ApplicationServer {
 
         /* Listen as long not canceled */
         while (!monitor.isCanceled()) {
-          BufferedReader buffReader = null;
           Socket socket = null;
           try {
 
             /* Blocks until Socket accepted */
             socket = fSocket.accept();
 
-            /* Read Incoming Message */
-            buffReader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            String message = buffReader.readLine();
-
-            /* Process Message */
-            if (StringUtils.isSet(message))
-              safeProcess(socket, message);
+            /* Serve the Connection from a Worker */
+            final Socket connection = socket;
+            fWorkerPool.execute(new Runnable() {
+              public void run() {
+                serve(connection);
+              }
+            });
           } catch (IOException e) {
-            if (Activator.getDefault() != null)
+            if (Activator.getDefault() != null && !monitor.isCanceled())
               Activator.getDefault().logInfo(e.getMessage());
-          }
-
-          /* Cleanup */
-          finally {
-
-            /* Close the Reader */
-            try {
-              if (buffReader != null)
-                buffReader.close();
-            } catch (Exception e) {
-              if (Activator.getDefault() != null)
-                Activator.getDefault().logInfo(e.getMessage());
-            }
-
-            /* Close the Socket */
-            try {
-              if (socket != null)
-                socket.close();
-            } catch (Exception e) {
-              if (Activator.getDefault() != null)
-                Activator.getDefault().logInfo(e.getMessage());
-            }
+          } catch (RejectedExecutionException e) {
+            close(socket);
           }
         }
         return Status.OK_STATUS;
@@ -429,20 +466,100 @@ public class ApplicationServer {
     fServerJob.schedule();
   }
 
-  /* Process Message in Safe-Runnable */
-  private void safeProcess(final Socket socket, final String message) {
+  /* Serve all Requests of a Connection until it is closed or idle */
+  private void serve(Socket socket) {
+    BufferedReader buffReader = null;
+    try {
+      socket.setSoTimeout(KEEP_ALIVE_TIMEOUT);
+
+      /* Read Incoming Messages */
+      buffReader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+      boolean keepAlive = true;
+      while (keepAlive) {
+        String message = buffReader.readLine();
+        if (!StringUtils.isSet(message))
+          break;
+
+        /* Process Message */
+        keepAlive = isHttpRequest(message) && readHeaders(buffReader, message);
+        keepAlive = safeProcess(socket, message, keepAlive);
+      }
+    } catch (SocketTimeoutException e) {
+      /* Connection was idle too long */
+    } catch (IOException e) {
+      if (Activator.getDefault() != null)
+        Activator.getDefault().logInfo(e.getMessage());
+    }
+
+    /* Cleanup */
+    finally {
+
+      /* Close the Reader */
+      try {
+        if (buffReader != null)
+          buffReader.close();
+      } catch (Exception e) {
+        if (Activator.getDefault() != null)
+          Activator.getDefault().logInfo(e.getMessage());
+      }
+
+      /* Close the Socket */
+      close(socket);
+    }
+  }
+
+  private void close(Socket socket) {
+    try {
+      if (socket != null)
+        socket.close();
+    } catch (Exception e) {
+      if (Activator.getDefault() != null)
+        Activator.getDefault().logInfo(e.getMessage());
+    }
+  }
+
+  @SuppressWarnings("nls")
+  private boolean isHttpRequest(String message) {
+    return message.startsWith("GET ") && message.contains(" HTTP/");
+  }
+
+  /*
+   * Reads the Headers of a Request and returns TRUE if the Client wants to keep
+   * the Connection alive. Only HTTP 1.1 Clients are kept alive, since the
+   * Response is then chunked, which HTTP 1.0 Clients do not understand.
+   */
+  @SuppressWarnings("nls")
+  private boolean readHeaders(BufferedReader reader, String requestLine) throws IOException {
+    boolean isHttp11 = requestLine.endsWith("HTTP/1.1");
+    boolean keepAlive = isHttp11;
+
+    String header;
+    while ((header = reader.readLine()) != null && header.length() > 0) {
+      header = header.toLowerCase();
+      if (header.startsWith("connection:"))
+        keepAlive = isHttp11 && header.contains("keep-alive");
+    }
+
+    return keepAlive;
+  }
+
+  /* Process Message in Safe-Runnable and return TRUE if the Connection can be kept alive */
+  private boolean safeProcess(final Socket socket, final String message, final boolean keepAlive) {
+    final boolean[] result = new boolean[] { false };
     SafeRunner.run(new LoggingSafeRunnable() {
       public void run() throws Exception {
 
         /* This is a Display-Operation */
         if (isDisplayOperation(message))
-          processDisplayOperation(socket, message);
+          result[0] = processDisplayOperation(socket, message, keepAlive);
 
         /* This is a startup handshake */
         else
           processHandshake(message);
       }
     });
+
+    return result[0];
   }
 
   /* Process Handshake-Message */
@@ -452,7 +569,7 @@ public class ApplicationServer {
   }
 
   /* Process Message by looking for operations */
-  private void processDisplayOperation(Socket socket, String message) {
+  private boolean processDisplayOperation(Socket socket, String message, boolean keepAlive) {
     List<Object> elements = new ArrayList<Object>();
 
     /* Substring to get the Parameters String */
@@ -539,16 +656,19 @@ public class ApplicationServer {
     }
 
     /* Reply to the Socket */
-    reply(socket, viewerId, elements.toArray());
+    return reply(socket, viewerId, elements.toArray(), keepAlive);
   }
 
-  /* Create HTML out of the Elements and reply to the Socket */
+  /*
+   * Create HTML out of the Elements and write it to the Socket while it is
+   * rendered. Returns TRUE if the Connection can be kept alive.
+   */
   @SuppressWarnings("nls")
-  private void reply(Socket socket, String viewerId, Object[] elements) {
+  private boolean reply(Socket socket, String viewerId, Object[] elements, boolean keepAlive) {
 
     /* Only responsible for Viewer-Concerns */
     if (viewerId == null)
-      return;
+      return false;
 
     /* Ask for sorted Elements */
     ContentViewer viewer = fRegistry.get(viewerId);
@@ -557,28 +677,39 @@ public class ApplicationServer {
     if (viewer instanceof NewsBrowserViewer)
       children = ((NewsBrowserViewer) viewer).getFlattendChildren(elements);
 
+    /* Headers on Mac are hidden in a Comment, so the Response can't be chunked */
+    boolean chunked = keepAlive && !Application.IS_MAC;
+
     /* Write HTML to the Receiver */
-    BufferedWriter writer = null;
     try {
-      writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+      Writer writer = new BufferedWriter(new OutputStreamWriter(out));
 
       /* Send Headers (Bug on Mac: Header printed in Browser) */
       if (Application.IS_MAC)
         writer.append("<!--").append(CRLF);
-      writer.append("HTTP/1.x 200 OK").append(CRLF);
-
-      synchronized (RFC_1123_DATE) {
-        writer.append("Date: ").append(RFC_1123_DATE.format(new Date())).append(CRLF);
-      }
-
+      writer.append(chunked ? "HTTP/1.1 200 OK" : "HTTP/1.x 200 OK").append(CRLF);
+      writer.append("Date: ").append(RFC_1123_DATE.get().format(new Date())).append(CRLF);
       writer.append("Server: RSSOwl Local Server").append(CRLF);
       writer.append("Content-Type: text/html; charset=UTF-8").append(CRLF);
-      writer.append("Connection: close").append(CRLF);
+      if (chunked) {
+        writer.append("Connection: keep-alive").append(CRLF);
+        writer.append("Transfer-Encoding: chunked").append(CRLF);
+      } else
+        writer.append("Connection: close").append(CRLF);
       writer.append("Expires: 0").append(CRLF);
       if (Application.IS_MAC)
         writer.append("-->").append(CRLF);
       writer.write(CRLF);
 
+      /* Send the Body in Chunks */
+      ChunkedOutputStream chunkedOut = null;
+      if (chunked) {
+        writer.flush();
+        chunkedOut = new ChunkedOutputStream(out);
+        writer = new BufferedWriter(new OutputStreamWriter(chunkedOut));
+      }
+
       /* Begin HTML */
       writer.write("<!DOCTYPE HTML PUBLIC \"-//W3C//DTD HTML 4.01 Transitional//EN\">\n");
 
@@ -609,28 +740,25 @@ public class ApplicationServer {
       writer.write("  </head>\n  <body>\n");
 
       /* Output each Element as HTML */
-      for (Object el : children) {
-        String html = unicodeToEntities(labelProvider.getText(el));
-        writer.write(html);
-      }
+      for (Object el : children)
+        writeUnicodeAsEntities(writer, labelProvider.getText(el));
 
       /* End HTML */
       writer.write("\n  </body>\n</html>");
+      writer.flush();
+
+      /* Finish the Response */
+      if (chunkedOut != null)
+        chunkedOut.finish();
+      else
+        out.flush();
+
+      return chunked;
     } catch (IOException e) {
       if (Activator.getDefault() != null)
         Activator.getDefault().logInfo(e.getMessage());
-    }
 
-    /* Cleanup */
-    finally {
-      if (writer != null) {
-        try {
-          writer.close();
-        } catch (IOException e) {
-          if (Activator.getDefault() != null)
-            Activator.getDefault().logInfo(e.getMessage());
-        }
-      }
+      return false;
     }
   }
 
@@ -653,9 +781,10 @@ public class ApplicationServer {
     return null;
   }
 
+  /* Writes the String replacing non ASCII, non Whitespace characters with Entities */
   @SuppressWarnings("nls")
-  private String unicodeToEntities(String str) {
-    StringBuilder strBuf = new StringBuilder();
+  private void writeUnicodeAsEntities(Writer writer, String str) throws IOException {
+    int start = 0;
 
     /* For each character */
     for (int i = 0; i < str.length(); i++) {
@@ -663,20 +792,23 @@ public class ApplicationServer {
 
       /* This is a non ASCII, non Whitespace character */
       if (!((ch >= 0x0020) && (ch <= 0x007e)) && !Character.isWhitespace(ch)) {
-        strBuf.append("&#x");
+
+        /* Write ASCII characters up to here at once */
+        writer.write(str, start, i - start);
+        start = i + 1;
+
+        writer.write("&#x");
         String hex = Integer.toHexString(ch & 0xFFFF);
 
         if (hex.length() == 2)
-          strBuf.append("00");
-
-        strBuf.append(hex).append(";");
-      }
+          writer.write("00");
 
-      /* This is an ASCII character */
-      else {
-        strBuf.append(ch);
+        writer.write(hex);
+        writer.write(";");
       }
     }
-    return strBuf.toString();
+
+    /* Write remaining ASCII characters */
+    writer.write(str, start, str.length() - start);
   }
-}
\ No newline at end of file
+}
@@ -151,11 +151,11 @@ public class Controller {
   /* Max. number of concurrent running reload Jobs */
   private static final int MAX_CONCURRENT_RELOAD_JOBS = 10;
 
-  /* Max. number of concurrent Jobs for saving a Feed */
-  private static final int MAX_CONCURRENT_SAVE_JOBS = 1;
+  /* Max. number of concurrent Jobs for saving a Feed (merging runs in parallel, committing is serialized) */
+  private static final int MAX_CONCURRENT_SAVE_JOBS = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_CONCURRENT_RELOAD_JOBS));
 
   /* Max number of jobs in the queue used for saving feeds before it blocks */
-  private static final int MAX_SAVE_QUEUE_SIZE = 1;
+  private static final int MAX_SAVE_QUEUE_SIZE = MAX_CONCURRENT_SAVE_JOBS;
 
   /* Connection Timeouts in MS */
   private static final int FEED_CON_TIMEOUT = 30000;
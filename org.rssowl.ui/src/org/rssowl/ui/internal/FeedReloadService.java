@@ -52,6 +52,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
 import java.util.Set;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -60,6 +62,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * A Service managing automatic reload of Feeds in RSSOwl based on the user
  * preferences.
  * <p>
+ * All BookMarks are scheduled from a single Job that keeps a queue of the
+ * times when BookMarks are due. Once it runs, all due BookMarks are handed to
+ * the Controller in one batch. The first reload of a BookMark is delayed by a
+ * random amount of time to prevent BookMarks with the same Update-Interval
+ * from reloading all at the same time.
+ * </p>
+ * <p>
  * TODO Re-Think the current strategy to ignore reloads on startup from Feeds
  * that are not set to update in a certain interval.
  * </p>
@@ -74,78 +83,144 @@ public class FeedReloadService {
   /* The delay-value in millis (30 Seconds) */
   private static final int DELAY_VALUE = 30 * 1000;
 
+  /* The max. random delay in millis of the first reload (1 Minute) */
+  private static final int MAX_JITTER = 60 * 1000;
+
+  /* The max. time in millis the reload-job waits before checking again */
+  private static final int MAX_WAIT = DELAY_THRESHOLD;
+
   /* Listen to Bookmark Updates */
   private BookMarkAdapter fBookMarkListener;
 
   /* Map IBookMark to Update-Intervals */
   private final Map<IBookMark, Long> fMapBookMarkToInterval;
 
+  /* Map IBookMark to its scheduled Reload */
+  private final Map<IBookMark, ScheduledReload> fMapBookMarkToReload;
+
+  /* Scheduled Reloads ordered by the time they are due (guarded by itself) */
+  private final PriorityQueue<ScheduledReload> fScheduledReloads;
+
+  private final ReloadJob fReloadJob;
+  private final Random fRandom = new Random();
+
+  /* A BookMark that is due for a Reload at the given time */
+  private static class ScheduledReload implements Comparable<ScheduledReload> {
+    private final IBookMark fBookMark;
+    private long fDueTime;
+    private volatile boolean fCanceled;
+
+    ScheduledReload(IBookMark bookMark, long dueTime) {
+      fBookMark = bookMark;
+      fDueTime = dueTime;
+    }
+
+    public int compareTo(ScheduledReload o) {
+      return fDueTime < o.fDueTime ? -1 : (fDueTime == o.fDueTime ? 0 : 1);
+    }
+  }
+
   /*
-   * This subclass of a Job is making sure to delay the operation for <code>WAKEUP_DELAY</code>
-   * millis in case it is detecting that the last run of the Job was some amount
-   * of time (<code>DELAY_THRESHOLD</code>) after it was meant to be run due
-   * to the given Update-Interval. This fixes a problem, where all Update-Jobs
-   * would immediately run after waking up from an OS hibernate (e.g. on
-   * Windows). Since all Jobs are scheduled based on a time-dif, once waking up
-   * from hibernate, the dif is usually telling the Jobs to schedule
-   * immediately, even before network interfaces had any chance to start. Thus,
-   * all BookMarks will show errors.
+   * This Job reloads all BookMarks that are due and then schedules itself for
+   * the next BookMark that is due. It is making sure to delay the operation
+   * for <code>DELAY_VALUE</code> millis in case it is detecting that it runs
+   * some amount of time (<code>DELAY_THRESHOLD</code>) after it was meant to
+   * be run. This fixes a problem, where all Update-Jobs would immediately run
+   * after waking up from an OS hibernate (e.g. on Windows). Since all Jobs are
+   * scheduled based on a time-dif, once waking up from hibernate, the dif is
+   * usually telling the Jobs to schedule immediately, even before network
+   * interfaces had any chance to start. Thus, all BookMarks will show errors.
    */
   private class ReloadJob extends Job {
-    private final IBookMark fBookMark;
-    private long fLastRunInMillis;
+    private volatile long fExpectedRunInMillis;
 
-    ReloadJob(IBookMark bookMark, String name) {
+    ReloadJob(String name) {
       super(name);
-      fBookMark = bookMark;
-      fLastRunInMillis = System.currentTimeMillis();
     }
 
     @Override
     protected IStatus run(IProgressMonitor monitor) {
+      if (monitor.isCanceled())
+        return Status.OK_STATUS;
 
-      /* Update Interval of this BookMark */
-      Long updateIntervalInSeconds = fMapBookMarkToInterval.get(fBookMark);
+      long now = System.currentTimeMillis();
 
       /* Delay execution if required */
-      if (delay(updateIntervalInSeconds) && !monitor.isCanceled()) {
-        try {
-          Thread.sleep(DELAY_VALUE);
-        } catch (InterruptedException e) {
-          /* Ignore */
-        }
+      if (fExpectedRunInMillis > 0 && now - fExpectedRunInMillis > DELAY_THRESHOLD) {
+        fExpectedRunInMillis = now + DELAY_VALUE;
+        schedule(DELAY_VALUE);
+        return Status.OK_STATUS;
       }
 
-      /* Update field */
-      fLastRunInMillis = System.currentTimeMillis();
+      /* Collect all due BookMarks and schedule their next Reload */
+      Set<IBookMark> dueBookMarks = new HashSet<IBookMark>();
+      synchronized (fScheduledReloads) {
+        List<ScheduledReload> dueReloads = new ArrayList<ScheduledReload>();
+        ScheduledReload reload;
+        while ((reload = fScheduledReloads.peek()) != null && (reload.fCanceled || reload.fDueTime <= now)) {
+          fScheduledReloads.poll();
+          if (!reload.fCanceled)
+            dueReloads.add(reload);
+        }
 
-      /* Reload */
-      if (!monitor.isCanceled())
-        Controller.getDefault().reloadQueued(fBookMark, null);
+        for (ScheduledReload dueReload : dueReloads) {
+          Long updateIntervalInSeconds = fMapBookMarkToInterval.get(dueReload.fBookMark);
+          if (updateIntervalInSeconds == null)
+            continue;
 
-      /* Re-Schedule */
-      if (!monitor.isCanceled() && updateIntervalInSeconds != null)
-        schedule(updateIntervalInSeconds * 1000);
+          dueBookMarks.add(dueReload.fBookMark);
+          dueReload.fDueTime = now + updateIntervalInSeconds * 1000;
+          fScheduledReloads.add(dueReload);
+        }
+
+        /* Re-Schedule */
+        if (!monitor.isCanceled())
+          scheduleForNextReload();
+      }
+
+      /* Reload in one Batch */
+      if (dueBookMarks.size() == 1)
+        Controller.getDefault().reloadQueued(dueBookMarks.iterator().next(), null);
+      else if (!dueBookMarks.isEmpty())
+        Controller.getDefault().reloadQueued(dueBookMarks, null);
 
       return Status.OK_STATUS;
     }
 
-    @Override
-    public boolean belongsTo(Object family) {
-      return family.equals(fBookMark) || family.equals(FeedReloadService.this);
+    /*
+     * Schedules this Job for the next Reload that is due. If the Job is
+     * running, it is rescheduled once it finishes. Must be called while holding
+     * the lock of fScheduledReloads.
+     */
+    void scheduleForNextReload() {
+      ScheduledReload nextReload = fScheduledReloads.peek();
+      if (nextReload == null)
+        return;
+
+      /* Do not wait too long to recover from any missed Wake-Up */
+      long now = System.currentTimeMillis();
+      long dueTime = Math.min(nextReload.fDueTime, now + MAX_WAIT);
+
+      /* Scheduling a sleeping Job has no effect, thus cancel it first */
+      if (getState() != Job.RUNNING)
+        cancel();
+
+      fExpectedRunInMillis = dueTime;
+      schedule(Math.max(0, dueTime - now));
     }
 
-    private boolean delay(Long updateIntervalInSeconds) {
-      if (fLastRunInMillis == 0 || updateIntervalInSeconds == null)
-        return false;
-
-      long dif = System.currentTimeMillis() - fLastRunInMillis;
-      return dif > ((updateIntervalInSeconds * 1000) + DELAY_THRESHOLD);
+    @Override
+    public boolean belongsTo(Object family) {
+      return family.equals(FeedReloadService.this);
     }
   }
 
   FeedReloadService() {
     fMapBookMarkToInterval = new ConcurrentHashMap<IBookMark, Long>();
+    fMapBookMarkToReload = new ConcurrentHashMap<IBookMark, ScheduledReload>();
+    fScheduledReloads = new PriorityQueue<ScheduledReload>();
+    fReloadJob = new ReloadJob("Auto-Update Service");
+    fReloadJob.setSystem(true);
 
     /* Register Listeners */
     registerListeners();
@@ -241,10 +316,31 @@ public class FeedReloadService {
     }
   }
 
-  private void scheduleUpdate(final IBookMark bookMark, Long intervalInSeconds) {
-    Job updateJob = new ReloadJob(bookMark, "Auto-Update Service");
-    updateJob.setSystem(true);
-    updateJob.schedule(intervalInSeconds * 1000);
+  private void scheduleUpdate(IBookMark bookMark, Long intervalInSeconds) {
+    long intervalInMillis = intervalInSeconds * 1000;
+
+    /* Delay the first Reload randomly to spread Reloads with the same Interval */
+    int maxJitter = (int) Math.min(MAX_JITTER, intervalInMillis / 10);
+    long jitter = maxJitter > 0 ? fRandom.nextInt(maxJitter) : 0;
+    ScheduledReload reload = new ScheduledReload(bookMark, System.currentTimeMillis() + intervalInMillis + jitter);
+
+    synchronized (fScheduledReloads) {
+      cancelUpdate(bookMark);
+      fMapBookMarkToReload.put(bookMark, reload);
+
+      /* Wake up earlier if this BookMark is the next one due */
+      boolean isNext = fScheduledReloads.isEmpty() || reload.compareTo(fScheduledReloads.peek()) < 0;
+      fScheduledReloads.add(reload);
+      if (isNext)
+        fReloadJob.scheduleForNextReload();
+    }
+  }
+
+  /* Canceled Reloads are removed from the queue when they get due */
+  private void cancelUpdate(IBookMark bookMark) {
+    ScheduledReload reload = fMapBookMarkToReload.remove(bookMark);
+    if (reload != null)
+      reload.fCanceled = true;
   }
 
   private void registerListeners() {
@@ -324,7 +420,6 @@ public class FeedReloadService {
 
       /* New Interval different to Old Interval */
       else if (!newInterval.equals(oldInterval)) {
-        Job.getJobManager().cancel(updatedBookmark);
         fMapBookMarkToInterval.put(updatedBookmark, newInterval);
         scheduleUpdate(updatedBookmark, newInterval);
       }
@@ -338,7 +433,7 @@ public class FeedReloadService {
 
   private void removeUpdate(IBookMark bookmark) {
     fMapBookMarkToInterval.remove(bookmark);
-    Job.getJobManager().cancel(bookmark);
+    cancelUpdate(bookmark);
   }
 
   private void addUpdate(IBookMark bookmark, Long intervalInSeconds) {
@@ -31,6 +31,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.rssowl.core.Owl;
 import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.ISearchMark;
 import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.dao.DynamicDAO;
@@ -56,6 +57,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * The <code>SavedSearchService</code> is responsible to listen for updates to
  * the search-index and updating all <code>ISearchMark</code>s as a result to
  * that event in order to reflect changing search results in the UI.
+ * <p>
+ * Updates caused by the index are done incrementally: only the News that
+ * changed in the index since the last update are searched for and the results
+ * of each <code>ISearchMark</code> are updated for these News only. Searches
+ * that depend on other data than the News itself (e.g. the location or the
+ * age of News) are always updated fully.
+ * </p>
  *
  * @author bpasero
  */
@@ -70,14 +78,32 @@ public class SavedSearchService {
   /* Number of updated documents before using the long batch interval */
   private static final int SHORT_THRESHOLD = 1;
 
+  /* Max. number of changed News to update saved searches incrementally */
+  private static final int MAX_INCREMENTAL_UPDATE_COUNT = 5000;
+
+  private final int fMaxIncrementalUpdateCount;
   private final Job fBatchJob;
   private final IndexListener fIndexListener;
   private final AtomicBoolean fBatchInProcess = new AtomicBoolean(false);
   private final AtomicBoolean fUpdatedOnce = new AtomicBoolean(false);
   private final AtomicBoolean fForceQuickUpdate = new AtomicBoolean(false);
+  private final Set<Long> fChangedNewsIds = new HashSet<Long>();
+  private boolean fFullUpdateRequired;
 
   /** Creates and Starts this Service */
   public SavedSearchService() {
+    this(MAX_INCREMENTAL_UPDATE_COUNT);
+  }
+
+  /**
+   * Creates and Starts this Service.
+   *
+   * @param maxIncrementalUpdateCount the max. number of News that can change
+   * in the index between two updates before all saved searches are updated
+   * fully instead of incrementally.
+   */
+  public SavedSearchService(int maxIncrementalUpdateCount) {
+    fMaxIncrementalUpdateCount = maxIncrementalUpdateCount;
     fBatchJob = createBatchJob();
     fIndexListener = registerListeners();
   }
@@ -89,11 +115,26 @@ public class SavedSearchService {
         fBatchInProcess.set(false);
         fForceQuickUpdate.set(false);
 
+        /* Take the News that changed since the last Batch */
+        final Set<Long> changedNewsIds;
+        final boolean fullUpdate;
+        synchronized (fChangedNewsIds) {
+          changedNewsIds = new HashSet<Long>(fChangedNewsIds);
+          fullUpdate = fFullUpdateRequired || !fUpdatedOnce.get();
+          fChangedNewsIds.clear();
+          fFullUpdateRequired = false;
+        }
+
         /* Update all saved searches */
         SafeRunner.run(new LoggingSafeRunnable() {
           public void run() throws Exception {
-            if (!Controller.getDefault().isShuttingDown())
+            if (Controller.getDefault().isShuttingDown())
+              return;
+
+            if (fullUpdate)
               updateSavedSearches(true);
+            else if (!changedNewsIds.isEmpty())
+              updateSavedSearches(DynamicDAO.loadAll(ISearchMark.class), changedNewsIds);
           }
         });
 
@@ -109,8 +150,8 @@ public class SavedSearchService {
 
   private IndexListener registerListeners() {
     IndexListener listener = new IndexListener() {
-      public void indexUpdated(int entitiesCount) {
-        onIndexUpdated(entitiesCount);
+      public void indexUpdated(int entitiesCount, Collection<Long> entityIds) {
+        onIndexUpdated(entitiesCount, entityIds);
       }
     };
 
@@ -122,7 +163,18 @@ public class SavedSearchService {
     Owl.getPersistenceService().getModelSearch().removeIndexListener(fIndexListener);
   }
 
-  private void onIndexUpdated(int entitiesCount) {
+  private void onIndexUpdated(int entitiesCount, Collection<Long> entityIds) {
+
+    /* Remember changed News, fall back to a full update if too many */
+    synchronized (fChangedNewsIds) {
+      if (!fFullUpdateRequired) {
+        fChangedNewsIds.addAll(entityIds);
+        if (fChangedNewsIds.size() > fMaxIncrementalUpdateCount) {
+          fFullUpdateRequired = true;
+          fChangedNewsIds.clear();
+        }
+      }
+    }
 
     /* Start a new Batch if one is not in progress */
     if (!fBatchInProcess.getAndSet(true)) {
@@ -169,6 +221,22 @@ public class SavedSearchService {
    * a user initiated event or an automatic one.
    */
   public void updateSavedSearches(Collection<ISearchMark> searchMarks, boolean fromUserEvent) {
+    updateSavedSearches(searchMarks, null, fromUserEvent);
+  }
+
+  /**
+   * Updates the results of the given <code>ISearchMark</code>s for the News
+   * with the given IDs only.
+   *
+   * @param searchMarks The Set of <code>ISearchMark</code> to update the
+   * results in.
+   * @param changedNewsIds The IDs of the News that changed in the index.
+   */
+  public void updateSavedSearches(Collection<ISearchMark> searchMarks, Set<Long> changedNewsIds) {
+    updateSavedSearches(searchMarks, changedNewsIds, false);
+  }
+
+  private void updateSavedSearches(Collection<ISearchMark> searchMarks, Set<Long> changedNewsIds, boolean fromUserEvent) {
     boolean firstUpdate = !fUpdatedOnce.get();
 
     fUpdatedOnce.set(true);
@@ -177,29 +245,21 @@ public class SavedSearchService {
 
     /* For each Search Mark */
     for (ISearchMark searchMark : searchMarks) {
+      List<ISearchCondition> conditions = searchMark.getSearchConditions();
+      Pair<Boolean, Boolean> result;
 
-      /* Execute the search */
-      List<SearchHit<NewsReference>> results = modelSearch.searchNews(searchMark.getSearchConditions(), searchMark.matchAllConditions());
-
-      /* Fill Result into Map Buckets */
-      Map<INews.State, List<NewsReference>> resultsMap = new EnumMap<INews.State, List<NewsReference>>(INews.State.class);
-
-      Set<State> visibleStates = INews.State.getVisible();
-      for (SearchHit<NewsReference> searchHit : results) {
-        INews.State state = (State) searchHit.getData(INews.STATE);
+      /* Execute the search for the changed News and update the Result */
+      if (changedNewsIds != null && !requiresFullUpdate(conditions)) {
+        List<SearchHit<NewsReference>> results = modelSearch.searchNews(conditions, changedNewsIds, searchMark.matchAllConditions());
+        result = searchMark.updateNewsRefs(changedNewsIds, toResultsMap(results));
+      }
 
-        if (visibleStates.contains(state)) {
-          List<NewsReference> newsRefs = resultsMap.get(state);
-          if (newsRefs == null) {
-            newsRefs = new ArrayList<NewsReference>(results.size() / 3);
-            resultsMap.put(state, newsRefs);
-          }
-          newsRefs.add(searchHit.getResult());
-        }
+      /* Execute the search and set the Result */
+      else {
+        List<SearchHit<NewsReference>> results = modelSearch.searchNews(conditions, searchMark.matchAllConditions());
+        result = searchMark.setNewsRefs(toResultsMap(results));
       }
 
-      /* Set Result */
-      Pair<Boolean, Boolean> result = searchMark.setNewsRefs(resultsMap);
       boolean changed = result.getFirst();
       boolean newNewsAdded = result.getSecond();
 
@@ -213,6 +273,41 @@ public class SavedSearchService {
       DynamicDAO.getDAO(ISearchMarkDAO.class).fireResultsChanged(events);
   }
 
+  /* Fill Result into Map Buckets */
+  private Map<INews.State, List<NewsReference>> toResultsMap(List<SearchHit<NewsReference>> results) {
+    Map<INews.State, List<NewsReference>> resultsMap = new EnumMap<INews.State, List<NewsReference>>(INews.State.class);
+
+    Set<State> visibleStates = INews.State.getVisible();
+    for (SearchHit<NewsReference> searchHit : results) {
+      INews.State state = (State) searchHit.getData(INews.STATE);
+
+      if (visibleStates.contains(state)) {
+        List<NewsReference> newsRefs = resultsMap.get(state);
+        if (newsRefs == null) {
+          newsRefs = new ArrayList<NewsReference>(results.size() / 3);
+          resultsMap.put(state, newsRefs);
+        }
+        newsRefs.add(searchHit.getResult());
+      }
+    }
+
+    return resultsMap;
+  }
+
+  /*
+   * Returns TRUE if the results of a search depend on other data than the News
+   * itself and thereby can change without the News changing in the index.
+   */
+  private boolean requiresFullUpdate(List<ISearchCondition> conditions) {
+    for (ISearchCondition condition : conditions) {
+      int fieldId = condition.getField().getId();
+      if (fieldId == INews.LOCATION || fieldId == INews.AGE_IN_DAYS)
+        return true;
+    }
+
+    return false;
+  }
+
   /** Stops this service and unregisters any listeners added. */
   public void stopService() {
     unregisterListeners();
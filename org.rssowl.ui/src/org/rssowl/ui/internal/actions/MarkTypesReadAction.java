@@ -39,11 +39,12 @@ import org.rssowl.core.persist.IFolder;
 import org.rssowl.core.persist.IFolderChild;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INewsMark;
-import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.dao.DynamicDAO;
 import org.rssowl.core.persist.dao.IFolderDAO;
 import org.rssowl.core.persist.dao.INewsDAO;
 import org.rssowl.core.persist.pref.IPreferenceScope;
+import org.rssowl.core.persist.reference.NewsReference;
+import org.rssowl.core.util.LongHashSet;
 import org.rssowl.core.util.RetentionStrategy;
 import org.rssowl.ui.internal.Controller;
 import org.rssowl.ui.internal.undo.NewsStateOperation;
@@ -51,6 +52,7 @@ import org.rssowl.ui.internal.undo.UndoStack;
 import org.rssowl.ui.internal.util.JobRunner;
 import org.rssowl.ui.internal.util.ModelUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -58,12 +60,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Map.Entry;
 
 /**
  * @author bpasero
  */
 public class MarkTypesReadAction extends Action implements IWorkbenchWindowActionDelegate {
+  private static final EnumSet<INews.State> UNREAD_STATES = EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED);
+
   private IStructuredSelection fSelection;
   private INewsDAO fNewsDao;
 
@@ -125,59 +128,42 @@ public class MarkTypesReadAction extends Action implements IWorkbenchWindowActio
       for (IFolder folder : folders)
         ModelUtils.normalize(folder, entities);
 
-    /* Use Map for follow-up Retention */
-    Map<IBookMark, Collection<INews>> retentionHelperMap = new HashMap<IBookMark, Collection<INews>>();
+    /* Remember BookMarks that require Retention after marking their News read */
+    Set<IBookMark> retentionBookMarks = new HashSet<IBookMark>();
 
-    /* Retrieve affected News */
-    Set<INews> news = new HashSet<INews>();
+    /* Retrieve IDs of affected News grouped by their State */
+    Map<INews.State, List<NewsReference>> newsByState = new HashMap<INews.State, List<NewsReference>>();
+    LongHashSet newsIds = new LongHashSet();
     for (IEntity element : entities) {
       if (element instanceof IFolder)
-        fillNews((IFolder) element, news, retentionHelperMap);
+        fillNews((IFolder) element, newsByState, newsIds, retentionBookMarks);
       else if (element instanceof IBookMark)
-        fillNews((IBookMark) element, news, retentionHelperMap);
+        fillNews((IBookMark) element, newsByState, newsIds, retentionBookMarks);
       else if (element instanceof INewsMark)
-        fillNews((INewsMark) element, news);
+        fillNews((INewsMark) element, newsByState, newsIds);
       else if (element instanceof INews)
-        news.add((INews) element);
+        addNews(((INews) element).getState(), ((INews) element).getId(), newsByState, newsIds);
     }
 
     /* Only affect equivalent News if not all News are affected */
     boolean affectEquivalentNews = !equalsRootFolders(folders);
 
-    /* Support Undo */
-    if (!news.isEmpty())
-      UndoStack.getInstance().addOperation(new NewsStateOperation(news, INews.State.READ, affectEquivalentNews));
-
-    /* Apply the state to the NewsItems for Retention to handle them properly */
-    for (INews newsItem : news) {
-      newsItem.setState(INews.State.READ);
-    }
-
-    /* See if Retention is required for each BookMark */
-    Set<Entry<IBookMark, Collection<INews>>> entries = retentionHelperMap.entrySet();
-    for (Entry<IBookMark, Collection<INews>> entry : entries) {
-      IBookMark bookmark = entry.getKey();
-
-      /* Delete News that are now marked as Read */
-      List<INews> deletedNews = RetentionStrategy.process(bookmark, entry.getValue());
-
-      /*
-       * This is an optimization to the process. Any News that is marked as read
-       * is getting deleted here. Thus, there is no need in marking the News as
-       * Read.
-       */
-      news.removeAll(deletedNews);
-    }
-
     /* Mark News Read */
-    if (news.size() > 0) {
+    if (!newsIds.isEmpty()) {
+
+      /* Support Undo */
+      UndoStack.getInstance().addOperation(new NewsStateOperation(newsByState, INews.State.READ, affectEquivalentNews));
 
       /* Mark Saved Search Service as in need for a quick Update */
       Controller.getDefault().getSavedSearchService().forceQuickUpdate();
 
-      /* Perform Operation */
-      Owl.getPersistenceService().getDAOService().getNewsDAO().setState(news, INews.State.READ, affectEquivalentNews, true);
+      /* Perform Operation in Chunks without loading all News at once */
+      fNewsDao.setState(toIds(newsByState, newsIds.size()), INews.State.READ, affectEquivalentNews, true);
     }
+
+    /* Delete News that are now marked as Read */
+    for (IBookMark bookmark : retentionBookMarks)
+      RetentionStrategy.process(bookmark);
   }
 
   private boolean equalsRootFolders(Collection<IFolder> folders) {
@@ -185,46 +171,64 @@ public class MarkTypesReadAction extends Action implements IWorkbenchWindowActio
     return folders != null && folders.equals(rootFolders);
   }
 
-  private void fillNews(IFolder folder, Collection<INews> news, Map<IBookMark, Collection<INews>> bookMarkNewsMap) {
+  private void fillNews(IFolder folder, Map<INews.State, List<NewsReference>> newsByState, LongHashSet newsIds, Set<IBookMark> retentionBookMarks) {
     List<IFolderChild> children = folder.getChildren();
     for (IFolderChild child : children) {
       if (child instanceof IBookMark && containsUnread(((IBookMark) child)))
-        fillNews((IBookMark) child, news, bookMarkNewsMap);
+        fillNews((IBookMark) child, newsByState, newsIds, retentionBookMarks);
       else if (child instanceof INewsMark)
-        fillNews((INewsMark) child, news);
+        fillNews((INewsMark) child, newsByState, newsIds);
       else if (child instanceof IFolder)
-        fillNews((IFolder) child, news, bookMarkNewsMap);
+        fillNews((IFolder) child, newsByState, newsIds, retentionBookMarks);
     }
   }
 
   private boolean containsUnread(IBookMark mark) {
-    return mark.getNewsCount(EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED)) > 0;
+    return mark.getNewsCount(UNREAD_STATES) > 0;
   }
 
-  private void fillNews(IBookMark bookmark, Collection<INews> news, Map<IBookMark, Collection<INews>> bookMarkNewsMap) {
+  private void fillNews(IBookMark bookmark, Map<INews.State, List<NewsReference>> newsByState, LongHashSet newsIds, Set<IBookMark> retentionBookMarks) {
     IPreferenceScope bookMarkPrefs = Owl.getPreferenceService().getEntityScope(bookmark);
-    boolean requiresRetention = bookMarkPrefs.getBoolean(DefaultPreferences.DEL_READ_NEWS_STATE);
-
-    final EnumSet<State> enumSet = EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED);
-    /* Retention on read News required, load *read* as well */
-    if (requiresRetention) {
-      Collection<INews> feedsNews = fNewsDao.loadAll(bookmark.getFeedLinkReference(), INews.State.getVisible());
-      for (INews newsItem : feedsNews) {
-        /* Do not add READ news */
-        if (enumSet.contains(newsItem.getState()))
-          news.add(newsItem);
-      }
-      bookMarkNewsMap.put(bookmark, feedsNews);
+    if (bookMarkPrefs.getBoolean(DefaultPreferences.DEL_READ_NEWS_STATE))
+      retentionBookMarks.add(bookmark);
+
+    /* Only load the IDs of the News being affected */
+    Map<INews.State, long[]> idsByState = fNewsDao.loadIds(bookmark.getFeedLinkReference(), UNREAD_STATES);
+    for (Map.Entry<INews.State, long[]> entry : idsByState.entrySet()) {
+      for (long id : entry.getValue())
+        addNews(entry.getKey(), id, newsByState, newsIds);
     }
+  }
 
-    /* No retention required, just load the ones being affected */
-    else {
-      news.addAll(fNewsDao.loadAll(bookmark.getFeedLinkReference(), enumSet));
+  private void fillNews(INewsMark newsmark, Map<INews.State, List<NewsReference>> newsByState, LongHashSet newsIds) {
+    for (INews.State state : UNREAD_STATES) {
+      List<NewsReference> newsRefs = newsmark.getNewsRefs(EnumSet.of(state));
+      for (NewsReference newsRef : newsRefs)
+        addNews(state, newsRef.getId(), newsByState, newsIds);
     }
   }
 
-  private void fillNews(INewsMark newsmark, Collection<INews> news) {
-    news.addAll(newsmark.getNews(EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED)));
+  private void addNews(INews.State state, long id, Map<INews.State, List<NewsReference>> newsByState, LongHashSet newsIds) {
+    if (newsIds.add(id)) {
+      List<NewsReference> newsRefs = newsByState.get(state);
+      if (newsRefs == null) {
+        newsRefs = new ArrayList<NewsReference>();
+        newsByState.put(state, newsRefs);
+      }
+
+      newsRefs.add(new NewsReference(id));
+    }
+  }
+
+  private long[] toIds(Map<INews.State, List<NewsReference>> newsByState, int size) {
+    long[] ids = new long[size];
+    int i = 0;
+    for (List<NewsReference> newsRefs : newsByState.values()) {
+      for (NewsReference newsRef : newsRefs)
+        ids[i++] = newsRef.getId();
+    }
+
+    return ids;
   }
 
   /*
@@ -39,23 +39,29 @@ import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.IPerson;
 import org.rssowl.core.persist.ISource;
 import org.rssowl.core.persist.INews.State;
+import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.event.LabelAdapter;
+import org.rssowl.core.persist.event.LabelEvent;
+import org.rssowl.core.persist.event.NewsAdapter;
+import org.rssowl.core.persist.event.NewsEvent;
 import org.rssowl.core.util.DateUtils;
 import org.rssowl.core.util.StringUtils;
 import org.rssowl.core.util.URIUtils;
-import org.rssowl.ui.internal.Activator;
 import org.rssowl.ui.internal.EntityGroup;
 import org.rssowl.ui.internal.ILinkHandler;
 import org.rssowl.ui.internal.OwlUI;
-import org.rssowl.ui.internal.util.ExpandingReader;
 import org.rssowl.ui.internal.util.ModelUtils;
+import org.rssowl.ui.internal.util.WordHighlighter;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.io.Writer;
 import java.net.URI;
 import java.text.DateFormat;
-import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -64,12 +70,32 @@ import java.util.Set;
 public class NewsBrowserLabelProvider extends LabelProvider {
 
   /* Date Formatter for News */
-  private DateFormat fDateFormat = DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.SHORT);
+  private final DateFormat fDateFormat = DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.SHORT);
 
   /* TODO Experimenteal Search Result Highlight */
   private static final String PRE_HIGHLIGHT = "<span style=\"background-color:rgb(255,255,0)\">";
   private static final String POST_HIGHLIGHT = "</span>";
 
+  /* Max. Number of chars of rendered News kept in the Cache (a few thousand News) */
+  private static final int MAX_CACHE_SIZE = Integer.getInteger("rssowl.labelcache.size", 4 * 1024 * 1024).intValue(); //$NON-NLS-1$
+
+  /* Labels longer than this are not cached, so that they don't push out many smaller ones */
+  private static final int MAX_CACHED_LABEL_LENGTH = MAX_CACHE_SIZE / 16;
+
+  /* Rough memory used by a cache entry besides the chars of its label */
+  private static final int ENTRY_OVERHEAD = 32;
+
+  /* Rendered HTML of News by News-ID in access order (guarded by itself) */
+  private final Map<Long, String> fLabelCache = new LinkedHashMap<Long, String>(256, 0.75f, true);
+  private int fCacheSize;
+
+  /* Words that were highlighted in the cached HTML (guarded by fLabelCache) */
+  private Set<String> fCachedHighlightedWords = new HashSet<String>(1);
+  private WordHighlighter fHighlighter = new WordHighlighter(fCachedHighlightedWords, PRE_HIGHLIGHT, POST_HIGHLIGHT);
+
+  /* Incremented whenever cached HTML is invalidated (guarded by fLabelCache) */
+  private long fCacheGeneration;
+
   private String fNewsFontFamily;
   private String fNormalFontCSS;
   private String fSmallFontCSS;
@@ -77,6 +103,8 @@ public class NewsBrowserLabelProvider extends LabelProvider {
   private String fBiggestFontCSS;
   private String fStickyBGColorCSS;
   private IPropertyChangeListener fPropertyChangeListener;
+  private NewsAdapter fNewsListener;
+  private LabelAdapter fLabelListener;
   private NewsBrowserViewer fViewer;
 
   /**
@@ -115,10 +143,83 @@ public class NewsBrowserLabelProvider extends LabelProvider {
 
     /* Add it to listen to Theme Events */
     PlatformUI.getWorkbench().getThemeManager().addPropertyChangeListener(fPropertyChangeListener);
+
+    /* Invalidate cached HTML of News that changed */
+    fNewsListener = new NewsAdapter() {
+      @Override
+      public void entitiesUpdated(Set<NewsEvent> events) {
+        invalidate(events);
+      }
+
+      @Override
+      public void entitiesDeleted(Set<NewsEvent> events) {
+        invalidate(events);
+      }
+    };
+    DynamicDAO.addEntityListener(INews.class, fNewsListener);
+
+    /* Labels are rendered by Name and Color into the HTML of News */
+    fLabelListener = new LabelAdapter() {
+      @Override
+      public void entitiesUpdated(Set<LabelEvent> events) {
+        clearCache();
+      }
+
+      @Override
+      public void entitiesDeleted(Set<LabelEvent> events) {
+        clearCache();
+      }
+    };
+    DynamicDAO.addEntityListener(ILabel.class, fLabelListener);
   }
 
   private void unregisterListeners() {
     PlatformUI.getWorkbench().getThemeManager().removePropertyChangeListener(fPropertyChangeListener);
+    DynamicDAO.removeEntityListener(INews.class, fNewsListener);
+    DynamicDAO.removeEntityListener(ILabel.class, fLabelListener);
+    clearCache();
+  }
+
+  private void invalidate(Set<NewsEvent> events) {
+    synchronized (fLabelCache) {
+      for (NewsEvent event : events) {
+        String label = fLabelCache.remove(event.getEntity().getId());
+        if (label != null)
+          fCacheSize -= sizeOf(label);
+      }
+
+      fCacheGeneration++;
+    }
+  }
+
+  private void clearCache() {
+    synchronized (fLabelCache) {
+      fLabelCache.clear();
+      fCacheSize = 0;
+      fCacheGeneration++;
+    }
+  }
+
+  /* Must be called while holding the Lock of fLabelCache */
+  private void putInCache(Long id, String label) {
+    if (label.length() > MAX_CACHED_LABEL_LENGTH)
+      return;
+
+    String previous = fLabelCache.put(id, label);
+    if (previous != null)
+      fCacheSize -= sizeOf(previous);
+    fCacheSize += sizeOf(label);
+
+    /* Evict least recently used Labels */
+    Iterator<String> it = fLabelCache.values().iterator();
+    while (fCacheSize > MAX_CACHE_SIZE && it.hasNext()) {
+      fCacheSize -= sizeOf(it.next());
+      it.remove();
+    }
+  }
+
+  private int sizeOf(String label) {
+    return label.length() + ENTRY_OVERHEAD;
   }
 
   /* Init the Theme Font (from UI Thread) */
@@ -297,6 +398,44 @@ public class NewsBrowserLabelProvider extends LabelProvider {
   }
 
   private String getLabel(INews news) {
+    Long id = news.getId();
+    if (id == null)
+      return getLabel(news, new WordHighlighter(fViewer.getHighlightedWords(), PRE_HIGHLIGHT, POST_HIGHLIGHT));
+
+    /* Drop cached HTML that was highlighted with different Words */
+    Set<String> wordsToHighlight = new HashSet<String>(fViewer.getHighlightedWords());
+    WordHighlighter highlighter;
+    long generation;
+    synchronized (fLabelCache) {
+      if (!wordsToHighlight.equals(fCachedHighlightedWords)) {
+        fLabelCache.clear();
+        fCacheSize = 0;
+        fCachedHighlightedWords = wordsToHighlight;
+        fHighlighter = new WordHighlighter(wordsToHighlight, PRE_HIGHLIGHT, POST_HIGHLIGHT);
+        fCacheGeneration++;
+      }
+
+      String label = fLabelCache.get(id);
+      if (label != null)
+        return label;
+
+      highlighter = fHighlighter;
+      generation = fCacheGeneration;
+    }
+
+    /* Render outside the Lock, News are rendered from several Threads */
+    String label = getLabel(news, highlighter);
+
+    /* Only cache if nothing got invalidated meanwhile */
+    synchronized (fLabelCache) {
+      if (generation == fCacheGeneration)
+        putInCache(id, label);
+    }
+
+    return label;
+  }
+
+  private String getLabel(INews news, WordHighlighter highlighter) {
     String description = news.getDescription();
     StringBuilder builder = getBuilder(news, description);
     StringBuilder search = new StringBuilder();
@@ -342,7 +481,10 @@ public class NewsBrowserLabelProvider extends LabelProvider {
       /* DIV: NewsItem/Header/Date */
       div(builder, "date");
 
-      builder.append(fDateFormat.format(DateUtils.getRecentDate(news)));
+      /* News are rendered from several Threads of the ApplicationServer */
+      synchronized (fDateFormat) {
+        builder.append(fDateFormat.format(DateUtils.getRecentDate(news)));
+      }
 
       /* Close: NewsItem/Header/Date */
       close(builder, "div");
@@ -598,27 +740,14 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     /* Close: NewsItem */
     close(builder, "div");
 
-    String result = builder.toString();
-
     /* Highlight Support */
-    Collection<String> wordsToHighlight = fViewer.getHighlightedWords();
-    if (!wordsToHighlight.isEmpty()) {
-      StringBuilder highlightedResult = new StringBuilder(result.length());
-      ExpandingReader resultHighlightReader = new ExpandingReader(new StringReader(result), wordsToHighlight, PRE_HIGHLIGHT, POST_HIGHLIGHT, true);
-
-      int len = 0;
-      char[] buf = new char[1000];
-      try {
-        while ((len = resultHighlightReader.read(buf)) != -1)
-          highlightedResult.append(buf, 0, len);
-
-        return highlightedResult.toString();
-      } catch (IOException e) {
-        Activator.getDefault().logError(e.getMessage(), e);
-      }
+    if (!highlighter.isEmpty()) {
+      StringBuilder highlightedResult = new StringBuilder(builder.length() + builder.length() / 8);
+      highlighter.highlight(builder, highlightedResult);
+      return highlightedResult.toString();
     }
 
-    return result;
+    return builder.toString();
   }
 
   private void div(StringBuilder builder, String cssClass) {
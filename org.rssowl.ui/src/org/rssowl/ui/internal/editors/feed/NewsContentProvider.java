@@ -47,6 +47,7 @@ import org.rssowl.core.persist.reference.ModelReference;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.reference.SearchMarkReference;
 import org.rssowl.core.persist.service.PersistenceException;
+import org.rssowl.core.util.LongHashMap;
 import org.rssowl.ui.internal.EntityGroup;
 import org.rssowl.ui.internal.EntityGroupItem;
 import org.rssowl.ui.internal.FolderNewsMark;
@@ -76,6 +77,9 @@ public class NewsContentProvider implements ITreeContentProvider {
   /* Cache displayed News */
   private Set<INews> fCachedNews;
 
+  /* Cached News by ID for fast lookup */
+  private LongHashMap<INews> fCachedNewsById;
+
   /**
    * @param tableViewer
    * @param browserViewer
@@ -229,10 +233,13 @@ public class NewsContentProvider implements ITreeContentProvider {
       registerListeners();
 
     /* Clear old Data if required */
-    if (fCachedNews == null)
+    if (fCachedNews == null) {
       fCachedNews = new HashSet<INews>();
-    else if (!onlyAdd)
+      fCachedNewsById = new LongHashMap<INews>();
+    } else if (!onlyAdd) {
       fCachedNews.clear();
+      fCachedNewsById.clear();
+    }
 
     /* Check if ContentProvider was already disposed */
     if (fDisposed)
@@ -260,7 +267,7 @@ public class NewsContentProvider implements ITreeContentProvider {
       addedNews.addAll(input.getNews(INews.State.getVisible()));
 
     /* Add into Cache */
-    fCachedNews.addAll(addedNews);
+    addToCache(addedNews);
 
     return addedNews;
   }
@@ -281,33 +288,37 @@ public class NewsContentProvider implements ITreeContentProvider {
     if (fCachedNews == null)
       return false;
 
-    for (INews news : fCachedNews) {
-      if (ref.references(news))
-        return true;
-    }
-
-    return false;
+    return fCachedNewsById.containsKey(ref.getId());
   }
 
   private synchronized boolean hasCachedNews(INews news) {
-    if (fCachedNews == null)
+    if (fCachedNews == null || news.getId() == null)
       return false;
 
-    for (INews cachedNews : fCachedNews) {
-      if (cachedNews.equals(news))
-        return true;
-    }
-
-    return false;
+    return fCachedNewsById.containsKey(news.getId());
   }
 
   private synchronized INews obtainFromCache(NewsReference ref) {
-    for (INews cachedNews : fCachedNews) {
-      if (ref.references(cachedNews))
-        return cachedNews;
+    if (fCachedNews == null)
+      return null;
+
+    return fCachedNewsById.get(ref.getId());
+  }
+
+  /* Caller must be synchronized on this */
+  private void addToCache(List<INews> news) {
+    for (INews newsitem : news) {
+      if (fCachedNews.add(newsitem) && newsitem.getId() != null)
+        fCachedNewsById.put(newsitem.getId(), newsitem);
     }
+  }
 
-    return null;
+  /* Caller must be synchronized on this */
+  private void removeFromCache(List<INews> news) {
+    for (INews newsitem : news) {
+      if (fCachedNews.remove(newsitem) && newsitem.getId() != null)
+        fCachedNewsById.remove(newsitem.getId());
+    }
   }
 
   private void registerListeners() {
@@ -503,7 +514,7 @@ public class NewsContentProvider implements ITreeContentProvider {
 
     /* Add to Cache */
     synchronized (NewsContentProvider.this) {
-      fCachedNews.addAll(addedNews);
+      addToCache(addedNews);
     }
 
     /* Return early if a refresh is required anyways */
@@ -554,7 +565,7 @@ public class NewsContentProvider implements ITreeContentProvider {
 
     /* Remove from Cache */
     synchronized (NewsContentProvider.this) {
-      fCachedNews.removeAll(deletedNews);
+      removeFromCache(deletedNews);
     }
 
     /* Return early if refresh is required anyways */
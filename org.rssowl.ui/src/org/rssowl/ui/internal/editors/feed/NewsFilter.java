@@ -41,6 +41,7 @@ import org.rssowl.core.persist.SearchSpecifier;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.util.DateUtils;
+import org.rssowl.core.util.LongHashSet;
 import org.rssowl.core.util.SearchHit;
 import org.rssowl.core.util.StringUtils;
 import org.rssowl.ui.internal.Activator;
@@ -130,6 +131,12 @@ public class NewsFilter extends ViewerFilter {
     }
   }
 
+  /* Characters the StandardAnalyzer may keep between letters and digits of a Token */
+  private static final String TOKEN_JOINING_CHARS = "'.@&-_/,";
+
+  /* Start of the Unicode Blocks with Chinese and Japanese characters */
+  private static final char CJK_START = '\u2E80';
+
   /* Current Filter Value */
   private Type fType = Type.SHOW_ALL;
 
@@ -138,10 +145,17 @@ public class NewsFilter extends ViewerFilter {
 
   /* Misc. */
   private INewsMark fNewsMark;
-  private List<SearchHit<NewsReference>> fCachedPatternMatchingNews;
+  private LongHashSet fCachedPatternMatchingNews;
   private IModelFactory fModelFactory = Owl.getModelFactory();
   private String fPatternString;
 
+  /* Pattern and Target the cached matching News were searched with */
+  private String fSearchedPattern;
+  private SearchTarget fSearchedTarget;
+
+  /* Lowercase Pattern the cached matching News are narrowed down with or NULL */
+  private String fRefinedPattern;
+
   /**
    * @param newsMark the {@link INewsMark} that is used as source for all news.
    */
@@ -282,8 +296,34 @@ public class NewsFilter extends ViewerFilter {
     if (fCachedPatternMatchingNews == null)
       return true;
 
-    for (SearchHit<NewsReference> hit : fCachedPatternMatchingNews) {
-      if (hit.getResult().getId() == news.getId())
+    if (!fCachedPatternMatchingNews.contains(news.getId()))
+      return false;
+
+    return fRefinedPattern == null || containsWordStartingWith(news.getTitle(), fRefinedPattern);
+  }
+
+  /*
+   * Mimics a prefix query on the Headline for a pattern of letters. Words are
+   * split on any character other than a letter or digit, whereas the
+   * StandardAnalyzer keeps Apostrophes, Acronyms, Hostnames, E-Mails and
+   * Numbers together as one Token (e.g. "O'Reilly", "U.S.A.", "rssowl.org").
+   * Since both can not be told apart here, a Headline containing such a
+   * character between letters or digits is kept as matching. The same is true
+   * for Stop Words, which are not indexed. Both keep a few News more than a new
+   * search would find, until the pattern is searched again.
+   */
+  private boolean containsWordStartingWith(String text, String prefix) {
+    if (text == null)
+      return false;
+
+    text = StringUtils.stripTags(text).toLowerCase();
+    for (int i = 1; i < text.length() - 1; i++) {
+      if (TOKEN_JOINING_CHARS.indexOf(text.charAt(i)) >= 0 && Character.isLetterOrDigit(text.charAt(i - 1)) && Character.isLetterOrDigit(text.charAt(i + 1)))
+        return true;
+    }
+
+    for (int i = 0, max = text.length() - prefix.length(); i <= max; i++) {
+      if ((i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1))) && text.startsWith(prefix, i))
         return true;
     }
 
@@ -366,13 +406,26 @@ public class NewsFilter extends ViewerFilter {
     fPatternString = patternString;
 
     /* Pattern Reset */
-    if (!StringUtils.isSet(patternString))
+    if (!StringUtils.isSet(patternString)) {
       fCachedPatternMatchingNews = null;
+      fSearchedPattern = null;
+      fSearchedTarget = null;
+      fRefinedPattern = null;
+    }
+
+    /* Pattern Refined: Narrow down the cached matching News */
+    else if (isRefinement(patternString.trim())) {
+      fRefinedPattern = patternString.trim().toLowerCase();
+    }
 
     /* Pattern Set */
     else {
       try {
-        fCachedPatternMatchingNews = cacheMatchingNews(patternString.trim());
+        String pattern = patternString.trim();
+        fCachedPatternMatchingNews = cacheMatchingNews(pattern);
+        fSearchedPattern = pattern;
+        fSearchedTarget = fSearchTarget;
+        fRefinedPattern = null;
       }
 
       /* This happens expectedly if max-clauses count reaches a certain limit */
@@ -382,12 +435,39 @@ public class NewsFilter extends ViewerFilter {
     }
   }
 
-  private List<SearchHit<NewsReference>> cacheMatchingNews(String pattern) {
+  /*
+   * Typing into the quick search usually extends the previous pattern. The
+   * News matching a single word of letters in the Headline are a subset of the
+   * News matching any prefix of it, so instead of searching again, the cached
+   * matching News are narrowed down while being filtered. Digits are left to a
+   * new search since the StandardAnalyzer tokenizes Numbers differently, and so
+   * are Chinese and Japanese characters, which are indexed one by one.
+   */
+  private boolean isRefinement(String pattern) {
+    if (fCachedPatternMatchingNews == null || fSearchedPattern == null)
+      return false;
+
+    if (fSearchTarget != SearchTarget.HEADLINE || fSearchedTarget != SearchTarget.HEADLINE)
+      return false;
+
+    if (pattern.length() <= fSearchedPattern.length() || !pattern.toLowerCase().startsWith(fSearchedPattern.toLowerCase()))
+      return false;
+
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (!Character.isLetter(c) || c >= CJK_START)
+        return false;
+    }
+
+    return true;
+  }
+
+  private LongHashSet cacheMatchingNews(String pattern) {
     List<ISearchCondition> conditions = new ArrayList<ISearchCondition>(2);
 
     /* Explicitly return on empty String */
     if (!StringUtils.isSet(pattern))
-      return Collections.emptyList();
+      return new LongHashSet();
 
     /* Convert to Wildcard Query */
     if (!pattern.endsWith("*"))
@@ -433,7 +513,12 @@ public class NewsFilter extends ViewerFilter {
     conditions.add(fModelFactory.createSearchCondition(field, specifier, pattern));
 
     /* Perform Search */
-    return Owl.getPersistenceService().getModelSearch().searchNews(conditions, true);
+    List<SearchHit<NewsReference>> hits = Owl.getPersistenceService().getModelSearch().searchNews(conditions, true);
+    LongHashSet matchingNews = new LongHashSet(hits.size());
+    for (SearchHit<NewsReference> hit : hits)
+      matchingNews.add(hit.getResult().getId());
+
+    return matchingNews;
   }
 
   /**
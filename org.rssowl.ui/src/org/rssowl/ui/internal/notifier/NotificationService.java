@@ -31,7 +31,7 @@ import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.ISearchMark;
 import org.rssowl.core.persist.dao.DynamicDAO;
-import org.rssowl.core.persist.event.NewsAdapter;
+import org.rssowl.core.persist.event.AsyncNewsAdapter;
 import org.rssowl.core.persist.event.NewsEvent;
 import org.rssowl.core.persist.event.NewsListener;
 import org.rssowl.core.persist.event.SearchMarkAdapter;
@@ -98,9 +98,9 @@ public class NotificationService {
     return fgNotificationPopup != null;
   }
 
-  /* Listen on News Events */
+  /* Listen on News Events (filtering added News does not need to block the committing Thread) */
   private NewsListener registerNewsListener() {
-    NewsListener listener = new NewsAdapter() {
+    NewsListener listener = new AsyncNewsAdapter() {
       @Override
       public void entitiesAdded(final Set<NewsEvent> events) {
         onNewsAdded(events);
@@ -73,6 +73,25 @@ public class NewsStateOperation implements IUndoOperation {
     fOnlyNewNewsAffected = fOldStates.containsKey(INews.State.NEW) && fOldStates.get(INews.State.NEW).size() == fNewsCount;
   }
 
+  /**
+   * @param oldStates a Map of the old state to the News that had this state.
+   * @param newState
+   * @param affectEquivalentNews
+   */
+  public NewsStateOperation(Map<State, List<NewsReference>> oldStates, INews.State newState, boolean affectEquivalentNews) {
+    Assert.isTrue(SUPPORTED_STATES.contains(newState), "Unsupported Operation");
+
+    int newsCount = 0;
+    for (List<NewsReference> newsRefs : oldStates.values())
+      newsCount += newsRefs.size();
+
+    fOldStates = oldStates;
+    fNewState = newState;
+    fAffectEquivalentNews = affectEquivalentNews;
+    fNewsCount = newsCount;
+    fOnlyNewNewsAffected = fOldStates.containsKey(INews.State.NEW) && fOldStates.get(INews.State.NEW).size() == fNewsCount;
+  }
+
   /*
    * @see org.rssowl.ui.internal.undo.IUndoOperation#getName()
    */
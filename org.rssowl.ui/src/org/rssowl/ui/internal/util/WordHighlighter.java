@@ -0,0 +1,195 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.ui.internal.util;
+
+import org.eclipse.core.runtime.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Surrounds certain words of a HTML text with a pre- and a post-value in a
+ * single pass while leaving the content of Tags untouched. Words are compared
+ * case-insensitive and may contain the wildcards "*" and "?".
+ * <p>
+ * The result is the same as the one of an {@link ExpandingReader} that skips
+ * Tags, but words without wildcards are looked up in a Set instead of being
+ * matched one by one. Instances are immutable and should be created once per
+ * Collection of words.
+ * </p>
+ */
+public class WordHighlighter {
+
+  /* Words without Wildcards in folded case */
+  private final Set<String> fWords;
+
+  /* Lengths of the Words, used to skip the lookup early */
+  private final boolean[] fWordLengths;
+
+  /* Words with Wildcards */
+  private final List<StringMatcher> fMatchers;
+
+  private final String fPreValue;
+  private final String fPostValue;
+
+  /**
+   * @param words A List of words to highlight.
+   * @param preValue The value to put in front of the highlighted word.
+   * @param postValue The value to put after the highlighted word.
+   */
+  public WordHighlighter(Collection<String> words, String preValue, String postValue) {
+    Assert.isNotNull(words);
+    Assert.isNotNull(preValue);
+    Assert.isNotNull(postValue);
+
+    fPreValue = preValue;
+    fPostValue = postValue;
+    fWords = new HashSet<String>(words.size() * 4 / 3 + 1);
+    fMatchers = new ArrayList<StringMatcher>(1);
+
+    int maxLength = 0;
+    for (String word : words) {
+      if (hasWildcards(word))
+        fMatchers.add(new StringMatcher(word, true, false));
+
+      /* Words that are not a single Token can never match */
+      else if (isToken(word)) {
+        fWords.add(fold(word, 0, word.length()));
+        maxLength = Math.max(maxLength, word.length());
+      }
+    }
+
+    fWordLengths = new boolean[maxLength + 1];
+    for (String word : fWords)
+      fWordLengths[word.length()] = true;
+  }
+
+  /**
+   * @return <code>true</code> if no word can ever be highlighted and
+   * {@link #highlight(CharSequence, StringBuilder)} would only copy the text.
+   */
+  public boolean isEmpty() {
+    return fWords.isEmpty() && fMatchers.isEmpty();
+  }
+
+  /**
+   * Appends the given text to the builder surrounding each word that should be
+   * highlighted with the pre- and post-value.
+   *
+   * @param text The HTML text to highlight.
+   * @param builder The builder to append the highlighted text to.
+   */
+  public void highlight(CharSequence text, StringBuilder builder) {
+    boolean inTags = false;
+    int wordStart = -1;
+    int len = text.length();
+
+    for (int i = 0; i < len; i++) {
+      char ch = text.charAt(i);
+
+      /* Copy Tags as is */
+      if (inTags) {
+        builder.append(ch);
+        if (ch == '>')
+          inTags = false;
+
+        continue;
+      }
+
+      /* Inside a Word */
+      if (Character.isLetterOrDigit(ch)) {
+        if (wordStart == -1)
+          wordStart = i;
+
+        continue;
+      }
+
+      /* End of a Word */
+      if (wordStart != -1) {
+        appendWord(text, wordStart, i, builder);
+        wordStart = -1;
+      }
+
+      builder.append(ch);
+      if (ch == '<')
+        inTags = true;
+    }
+
+    /* Last Word */
+    if (wordStart != -1)
+      appendWord(text, wordStart, len, builder);
+  }
+
+  private void appendWord(CharSequence text, int start, int end, StringBuilder builder) {
+    if (shouldHighlight(text, start, end))
+      builder.append(fPreValue).append(text, start, end).append(fPostValue);
+    else
+      builder.append(text, start, end);
+  }
+
+  private boolean shouldHighlight(CharSequence text, int start, int end) {
+    int length = end - start;
+    if (length < fWordLengths.length && fWordLengths[length] && fWords.contains(fold(text, start, end)))
+      return true;
+
+    if (!fMatchers.isEmpty()) {
+      String word = text.subSequence(start, end).toString();
+      for (StringMatcher matcher : fMatchers) {
+        if (matcher.match(word))
+          return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean hasWildcards(String word) {
+    return word.indexOf('*') != -1 || word.indexOf('?') != -1 || word.indexOf('\\') != -1;
+  }
+
+  private boolean isToken(String word) {
+    if (word.length() == 0)
+      return false;
+
+    for (int i = 0; i < word.length(); i++) {
+      if (!Character.isLetterOrDigit(word.charAt(i)))
+        return false;
+    }
+
+    return true;
+  }
+
+  /* Folds the Case the same way as String#regionMatches(true, ...) compares */
+  private static String fold(CharSequence text, int start, int end) {
+    char[] chars = new char[end - start];
+    for (int i = start; i < end; i++)
+      chars[i - start] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+
+    return new String(chars);
+  }
+}
@@ -89,6 +89,7 @@ public class BookMarkContentProvider implements ITreeContentProvider {
   private TreeViewer fViewer;
   private BookMarkFilter fBookmarkFilter;
   private BookMarkGrouping fBookmarkGrouping;
+  private FolderNewsCounter fFolderNewsCounter = new FolderNewsCounter();
 
   /* Misc. */
   private IBookMarkDAO fBookMarkDAO = DynamicDAO.getDAO(IBookMarkDAO.class);
@@ -222,6 +223,11 @@ public class BookMarkContentProvider implements ITreeContentProvider {
     fBookmarkGrouping = bookmarkGrouping;
   }
 
+  /* The ContentProvider keeps the Counts of Folders up to date */
+  void setFolderNewsCounter(FolderNewsCounter folderNewsCounter) {
+    fFolderNewsCounter = folderNewsCounter;
+  }
+
   private void registerListeners() {
 
     /* Folder Listener */
@@ -258,6 +264,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
             if (updatedFolders == null && reparentedFolders == null)
               return;
 
+            /* Structure might have changed, count again */
+            fFolderNewsCounter.clear();
+
             /* Ask Filter */
             if (fBookmarkFilter.needsRefresh(IFolder.class, events))
               fViewer.refresh(false);
@@ -332,6 +341,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
             if (removedFolders == null || removedFolders.size() == 0)
               return;
 
+            /* Structure has changed, count again */
+            fFolderNewsCounter.clear();
+
             /* Ask Filter */
             if (fBookmarkFilter.needsRefresh(IFolder.class, events))
               fViewer.refresh(false);
@@ -428,11 +440,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
               updatedSearchMarks.add(event.getEntity());
             }
 
-            fViewer.update(updatedSearchMarks.toArray(), null);
-
-            /* Update Parents */
-            for (ISearchMark searchMark : updatedSearchMarks)
-              updateFolderAndParents(searchMark.getParent());
+            /* Update SearchMarks including Parents */
+            fFolderNewsCounter.update(updatedSearchMarks);
+            updateMarksAndParents(updatedSearchMarks);
           }
         });
       }
@@ -509,17 +519,18 @@ public class BookMarkContentProvider implements ITreeContentProvider {
     DynamicDAO.addEntityListener(INews.class, fNewsListener);
   }
 
-  private void onMarksAdded(Set<? extends MarkEvent> events) {
+  private void onMarksAdded(final Set<? extends MarkEvent> events) {
+    JobRunner.runInUIThread(fViewer.getControl(), new Runnable() {
+      public void run() {
 
-    /* Reveal and Select if single Entity added */
-    if (events.size() == 1) {
-      final MarkEvent event = events.iterator().next();
-      JobRunner.runInUIThread(fViewer.getControl(), new Runnable() {
-        public void run() {
-          expand(event.getEntity().getParent());
-        }
-      });
-    }
+        /* Structure has changed, count again */
+        fFolderNewsCounter.clear();
+
+        /* Reveal and Select if single Entity added */
+        if (events.size() == 1)
+          expand(events.iterator().next().getEntity().getParent());
+      }
+    });
   }
 
   private void onMarksRemoved(final Set<? extends MarkEvent> events) {
@@ -547,6 +558,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
         if (removedMarks == null || removedMarks.size() == 0)
           return;
 
+        /* Structure has changed, count again */
+        fFolderNewsCounter.clear();
+
         /* Ask Filter */
         if (fBookmarkFilter.needsRefresh(clazz, events))
           fViewer.refresh(false);
@@ -609,6 +623,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
         if (updatedMarks == null && reparentedMarks == null)
           return;
 
+        /* Structure or Results might have changed, count again */
+        fFolderNewsCounter.clear();
+
         /* Ask Filter */
         if (fBookmarkFilter.needsRefresh(clazz, events))
           fViewer.refresh(false);
@@ -662,35 +679,31 @@ public class BookMarkContentProvider implements ITreeContentProvider {
   }
 
   /* Update Entities that are affected by the given NewsEvents */
-  private void updateParents(final Set<NewsEvent> events) {
+  private void updateParents(final Set<NewsEvent> events) throws PersistenceException {
 
     /* Group by Feed */
     Set<FeedLinkReference> affectedFeeds = new HashSet<FeedLinkReference>();
     for (NewsEvent event : events)
       affectedFeeds.add(event.getEntity().getFeedReference());
 
-    /* Update related Entities */
-    for (FeedLinkReference feedRef : affectedFeeds)
-      updateParents(feedRef);
-  }
-
-  private void updateParents(FeedLinkReference feedRef) throws PersistenceException {
-
     /* Collect all affected BookMarks */
-    Collection<IBookMark> affectedBookMarks = fBookMarkDAO.loadAll(feedRef);
+    Set<IBookMark> affectedBookMarks = new HashSet<IBookMark>();
+    for (FeedLinkReference feedRef : affectedFeeds)
+      affectedBookMarks.addAll(fBookMarkDAO.loadAll(feedRef));
 
-    /* Update them including Parents */
+    /* Update them including Parents at once */
+    fFolderNewsCounter.update(affectedBookMarks);
     updateMarksAndParents(affectedBookMarks);
   }
 
-  private void updateMarksAndParents(Collection<IBookMark> bookmarks) {
+  private void updateMarksAndParents(Collection<? extends IMark> marks) {
     Set<IEntity> entitiesToUpdate = new HashSet<IEntity>();
-    entitiesToUpdate.addAll(bookmarks);
+    entitiesToUpdate.addAll(marks);
 
     /* Collect parents */
-    for (IBookMark bookmark : bookmarks) {
+    for (IMark mark : marks) {
       List<IFolder> visibleParents = new ArrayList<IFolder>();
-      collectParents(visibleParents, bookmark);
+      collectParents(visibleParents, mark);
 
       entitiesToUpdate.addAll(visibleParents);
     }
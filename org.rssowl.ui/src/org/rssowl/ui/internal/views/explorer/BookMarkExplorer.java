@@ -315,6 +315,7 @@ public class BookMarkExplorer extends ViewPart {
     /* Let the ContentProvider know */
     ((BookMarkContentProvider) fContentProvider).setBookmarkFilter(fBookMarkFilter);
     ((BookMarkContentProvider) fContentProvider).setBookmarkGrouping(fBookMarkGrouping);
+    ((BookMarkContentProvider) fContentProvider).setFolderNewsCounter(fLabelProvider.getFolderNewsCounter());
 
     /* Set the initial Input based on selected Bookmark Set */
     fViewer.setInput(fSelectedBookMarkSet);
@@ -38,7 +38,6 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.RGB;
 import org.rssowl.core.persist.IBookMark;
 import org.rssowl.core.persist.IFolder;
-import org.rssowl.core.persist.IFolderChild;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INewsBin;
 import org.rssowl.core.persist.INewsMark;
@@ -47,7 +46,6 @@ import org.rssowl.ui.internal.EntityGroup;
 import org.rssowl.ui.internal.OwlUI;
 
 import java.util.EnumSet;
-import java.util.List;
 
 /**
  * @author bpasero
@@ -79,6 +77,9 @@ public class BookMarkLabelProvider extends CellLabelProvider {
   private boolean fIndicateState;
   private boolean fUseFavicons = true;
 
+  /* Rolled up Counts of Folders */
+  private final FolderNewsCounter fFolderNewsCounter = new FolderNewsCounter();
+
   /** */
   public BookMarkLabelProvider() {
     this(true);
@@ -103,6 +104,11 @@ public class BookMarkLabelProvider extends CellLabelProvider {
     fUseFavicons = useFavicons;
   }
 
+  /* The ContentProvider keeps the Counts of Folders up to date */
+  FolderNewsCounter getFolderNewsCounter() {
+    return fFolderNewsCounter;
+  }
+
   private void createResources() {
 
     /* Images */
@@ -144,8 +150,8 @@ public class BookMarkLabelProvider extends CellLabelProvider {
       IFolder folder = (IFolder) element;
 
       if (fIndicateState) {
-        unreadNewsCount = getNewsCount(folder, true);
-        newNewsCount = getNewsCount(folder, false);
+        unreadNewsCount = fFolderNewsCounter.getUnreadNewsCount(folder);
+        newNewsCount = fFolderNewsCounter.getNewNewsCount(folder);
       }
 
       /* Image */
@@ -309,31 +315,4 @@ public class BookMarkLabelProvider extends CellLabelProvider {
   public boolean isLabelProperty(Object element, String property) {
     return false;
   }
-
-  private int getNewsCount(IFolder folder, boolean unread) {
-    int count = 0;
-
-    /* Go through all Folders and Marks */
-    List<IFolderChild> children = folder.getChildren();
-    for (IFolderChild child : children) {
-
-      if (child instanceof INewsMark) {
-        INewsMark newsMark = (INewsMark) child;
-        if (unread)
-          count += getUnreadNewsCount(newsMark);
-        else
-          count += newsMark.getNewsCount(EnumSet.of(INews.State.NEW));
-      }
-
-      /* Folder */
-      else if (child instanceof IFolder)
-        count += getNewsCount((IFolder) child, unread);
-    }
-
-    return count;
-  }
-
-  private int getUnreadNewsCount(INewsMark newsMark) {
-    return newsMark.getNewsCount(EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED));
-  }
 }
\ No newline at end of file
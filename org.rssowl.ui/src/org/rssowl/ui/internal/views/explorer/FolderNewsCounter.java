@@ -0,0 +1,158 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2008 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.ui.internal.views.explorer;
+
+import org.rssowl.core.persist.IFolder;
+import org.rssowl.core.persist.IFolderChild;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.INewsMark;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the number of unread and new News of Folders as the sum of the counts
+ * of all News Marks contained in the Folder and its Subfolders. A Folder is
+ * counted the first time its count is asked for, together with all its
+ * children. Afterwards, changed counts of News Marks are applied as delta to
+ * the counted Folders above them, so that asking for the count of a Folder
+ * does not require to go through the Folder again.
+ * <p>
+ * The counts are only valid as long as the structure of Folders and Marks does
+ * not change. In that case, {@link #clear()} has to be called.
+ * </p>
+ * This object is not thread-safe and meant to be used from the UI-Thread.
+ */
+class FolderNewsCounter {
+  private static final EnumSet<INews.State> UNREAD_STATES = EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED);
+  private static final EnumSet<INews.State> NEW_STATES = EnumSet.of(INews.State.NEW);
+
+  /* Indices into the Counts */
+  private static final int UNREAD = 0;
+  private static final int NEW = 1;
+
+  private final Map<INewsMark, int[]> fMarkCounts = new HashMap<INewsMark, int[]>();
+  private final Map<IFolder, int[]> fFolderCounts = new HashMap<IFolder, int[]>();
+
+  /**
+   * @param folder The Folder to count the unread News of.
+   * @return the number of unread News in the Folder and its Subfolders.
+   */
+  int getUnreadNewsCount(IFolder folder) {
+    return getCounts(folder)[UNREAD];
+  }
+
+  /**
+   * @param folder The Folder to count the new News of.
+   * @return the number of new News in the Folder and its Subfolders.
+   */
+  int getNewNewsCount(IFolder folder) {
+    return getCounts(folder)[NEW];
+  }
+
+  /**
+   * Counts the News of the given Marks again and applies any difference to the
+   * counted Folders the Marks are contained in.
+   *
+   * @param marks The Marks whose News have changed.
+   */
+  void update(Collection<? extends INewsMark> marks) {
+    for (INewsMark mark : marks) {
+      int[] oldCounts = fMarkCounts.get(mark);
+
+      /* Not yet counted, neither are the Parents */
+      if (oldCounts == null)
+        continue;
+
+      int[] newCounts = count(mark);
+      int unreadDelta = newCounts[UNREAD] - oldCounts[UNREAD];
+      int newDelta = newCounts[NEW] - oldCounts[NEW];
+      if (unreadDelta == 0 && newDelta == 0)
+        continue;
+
+      fMarkCounts.put(mark, newCounts);
+
+      /* Counted Parents form a chain up from the Mark */
+      for (IFolder parent = mark.getParent(); parent != null; parent = parent.getParent()) {
+        int[] parentCounts = fFolderCounts.get(parent);
+        if (parentCounts == null)
+          break;
+
+        parentCounts[UNREAD] += unreadDelta;
+        parentCounts[NEW] += newDelta;
+      }
+    }
+  }
+
+  /**
+   * Forgets all counts. Folders are counted again when their count is asked
+   * for the next time.
+   */
+  void clear() {
+    fMarkCounts.clear();
+    fFolderCounts.clear();
+  }
+
+  private int[] getCounts(IFolder folder) {
+    int[] counts = fFolderCounts.get(folder);
+    if (counts == null) {
+      counts = new int[2];
+
+      /* Go through all Folders and Marks */
+      for (IFolderChild child : folder.getChildren()) {
+        int[] childCounts = null;
+        if (child instanceof INewsMark)
+          childCounts = getCounts((INewsMark) child);
+        else if (child instanceof IFolder)
+          childCounts = getCounts((IFolder) child);
+
+        if (childCounts != null) {
+          counts[UNREAD] += childCounts[UNREAD];
+          counts[NEW] += childCounts[NEW];
+        }
+      }
+
+      fFolderCounts.put(folder, counts);
+    }
+
+    return counts;
+  }
+
+  private int[] getCounts(INewsMark mark) {
+    int[] counts = fMarkCounts.get(mark);
+    if (counts == null) {
+      counts = count(mark);
+      fMarkCounts.put(mark, counts);
+    }
+
+    return counts;
+  }
+
+  private int[] count(INewsMark mark) {
+    return new int[] { mark.getNewsCount(UNREAD_STATES), mark.getNewsCount(NEW_STATES) };
+  }
+}
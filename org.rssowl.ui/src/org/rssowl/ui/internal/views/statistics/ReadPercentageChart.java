@@ -1,19 +1,18 @@
 package org.rssowl.ui.internal.views.statistics;
 
 import java.awt.Font;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.text.AttributedString;
 
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.widgets.Display;
 import org.jfree.chart.ChartFactory;
-import org.jfree.chart.ChartUtilities;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.labels.PieSectionLabelGenerator;
 import org.jfree.chart.plot.PiePlot;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.general.PieDataset;
+import org.jfree.experimental.swt.SWTUtils;
 import org.rssowl.core.service.StatisticsService;
 import org.rssowl.ui.internal.Activator;
 
@@ -57,19 +56,26 @@ public class ReadPercentageChart{
 		Image image = null;
 		
 		try {
-			// Write the image to a buffer in memory using AWT
-			ByteArrayOutputStream out = new ByteArrayOutputStream();
-			ChartUtilities.writeChartAsPNG(out, chart, width, height);
-			out.close();
-		    
-			// Load the image from the same buffer using SWT
-			ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
-			image = new Image(Display.getCurrent(), in);
-			in.close();
+			image = new Image(Display.getCurrent(), createChartImageData(chart, width, height));
 		} catch (Exception e) {
 			Activator.getDefault().logError(e.getMessage(), e);
 		} 
 		   
 		return image;
 	} 
+	
+	/**
+	 * Renders the chart into SWT image data. Unlike
+	 * {@link #createChartImage(JFreeChart, int, int)} this does not need a
+	 * Display and may be called from any thread.
+	 * 
+	 * @param chart the chart to render
+	 * @param width the width of the image
+	 * @param height the height of the image
+	 * @return the rendered chart
+	 */
+	public ImageData createChartImageData(JFreeChart chart, int width, int height) {
+		// Convert the pixels directly instead of encoding and decoding a PNG
+		return SWTUtils.convertToSWT(chart.createBufferedImage(width, height));
+	}
 }
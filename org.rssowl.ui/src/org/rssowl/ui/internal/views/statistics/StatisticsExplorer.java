@@ -3,16 +3,20 @@ package org.rssowl.ui.internal.views.statistics;
 import java.util.Collections;
 import java.util.Set;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.ScrolledComposite;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
@@ -21,30 +25,40 @@ import org.eclipse.ui.part.ViewPart;
 import org.rssowl.core.persist.IBookMark;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.event.AsyncEntityListener;
+import org.rssowl.core.persist.event.AsyncNewsAdapter;
 import org.rssowl.core.persist.event.BookMarkAdapter;
 import org.rssowl.core.persist.event.BookMarkEvent;
 import org.rssowl.core.persist.event.BookMarkListener;
-import org.rssowl.core.persist.event.NewsAdapter;
 import org.rssowl.core.persist.event.NewsEvent;
 import org.rssowl.core.persist.event.NewsListener;
 import org.rssowl.core.util.PageableList;
-import org.rssowl.ui.internal.util.JobRunner;
+import org.rssowl.ui.internal.util.UIBackgroundJob;
 
 
 public class StatisticsExplorer extends ViewPart{
 	public static final String VIEW_ID = "org.rssowl.ui.StatisticsExplorer"; //$NON-NLS-1$
 
+	/* Delay in millis to coalesce bursts of events into a single refresh */
+	private static final int REFRESH_DELAY = 500;
+	
+	private static final int CHART_WIDTH = 420;
+	private static final int CHART_HEIGHT = 270;
+
 	private TableViewer fViewer;
 	private IContentProvider fContentProvider;
 	private StatisticsLabelProvider fLabelProvider;
 	private CustomStatisticsViewSorter<IBookMark> fBookMarkSorter;
-	private CustomStatisticsViewSorter.Type fSortingType = CustomStatisticsViewSorter.Type.SORT_BY_POPULARITY;
+	private volatile CustomStatisticsViewSorter.Type fSortingType = CustomStatisticsViewSorter.Type.SORT_BY_POPULARITY;
 	
 	private BookMarkListener fBookMarkListener;
 	private NewsListener fNewsListener;
 	
 	private ReadPercentageChart fChart;
 	private Label fChartLabel;
+	private Image fChartImage;
+	
+	private RefreshJob fRefreshJob;
 	
 	//should be layed out to composite for reusability
 	private Button prevButton;
@@ -52,6 +66,54 @@ public class StatisticsExplorer extends ViewPart{
 	
 	private PageableList<IBookMark> pageableBookmarkList;
 
+	/**
+	 * Loads and sorts the bookmarks and renders the chart in the background,
+	 * then shows the result in the UI thread. Scheduling the job while it is
+	 * waiting has no effect, so a burst of events results in a single refresh.
+	 */
+	private class RefreshJob extends UIBackgroundJob {
+		private PageableList<IBookMark> fBookMarks;
+		private ImageData fChartData;
+		
+		RefreshJob(Control control) {
+			super(control);
+			setSystem(true);
+			setUser(false);
+		}
+		
+		@Override
+		protected void runInBackground(IProgressMonitor monitor) {
+			PageableList<IBookMark> bookMarks = new PageableList<IBookMark>();
+			bookMarks.addAll(DynamicDAO.loadAll(IBookMark.class));
+			
+			CustomStatisticsViewSorter<IBookMark> sorter = new CustomStatisticsViewSorter<IBookMark>();
+			sorter.setType(fSortingType);
+			Collections.sort(bookMarks, sorter);
+			
+			fBookMarks = bookMarks;
+			fChartData = fChart.createChartImageData(fChart.getPieChart(), CHART_WIDTH, CHART_HEIGHT);
+		}
+		
+		@Override
+		protected void runInUI(IProgressMonitor monitor) {
+			if (fBookMarks == null)
+				return;
+			
+			//keep the current page
+			fBookMarks.setCurrentIndex(pageableBookmarkList.getCurrentIndex());
+			pageableBookmarkList = fBookMarks;
+			fBookMarks = null;
+			
+			fViewer.setInput(pageableBookmarkList.getCurrentPage());
+			fViewer.refresh();
+			
+			if (fChartData != null) {
+				setChartImage(new Image(fChartLabel.getDisplay(), fChartData));
+				fChartData = null;
+			}
+		}
+	}
+
 	/**
 	 * The constructor.
 	 */
@@ -125,42 +187,34 @@ public class StatisticsExplorer extends ViewPart{
 			column.addListener(SWT.Selection, sortListener);
 		}
 		
+		fRefreshJob = new RefreshJob(fViewer.getTable());
+		
 		registerListeners();
 	}
 	
 	private void initializeChartLabel() {
-		fChartLabel.setImage(fChart.createChartImage(fChart.getPieChart(), 420, 270));
+		setChartImage(fChart.createChartImage(fChart.getPieChart(), CHART_WIDTH, CHART_HEIGHT));
 	}
 	
+	private void setChartImage(Image image) {
+		Image oldImage = fChartImage;
+		fChartImage = image;
+		fChartLabel.setImage(image);
+		
+		if (oldImage != null)
+			oldImage.dispose();
+	}
 	
 	private void reloadAndRefresh(){
-		JobRunner.runInUIThread(fViewer.getTable(), new Runnable() {
-	          public void run() {
-	        	pageableBookmarkList.clear();
-	      		pageableBookmarkList.addAll(DynamicDAO.loadAll(IBookMark.class));
-	      		restoreSorting();
-	      		
-	      		fViewer.setInput(pageableBookmarkList.getCurrentPage());
-	      		fViewer.refresh();
-	      		
-	      		initializeChartLabel();
-	          }
-		});
+		fRefreshJob.schedule(REFRESH_DELAY);
 	}
 	
-	/**
-	 * Sorts the list according to the previously used sorting type
-	 */
-	private void restoreSorting(){
-		//restore the previously used sorting type
-		fBookMarkSorter.setType(fSortingType);
-		
-		//do the sorting
-		Collections.sort(pageableBookmarkList, fBookMarkSorter);
+	/* Only schedules the RefreshJob, so it does not need to run in the committing thread */
+	private abstract static class AsyncBookMarkListener extends BookMarkAdapter implements AsyncEntityListener {
 	}
 	
 	private void registerListeners() {
-		fBookMarkListener = new BookMarkAdapter() {
+		fBookMarkListener = new AsyncBookMarkListener() {
 			@Override
 			public void entitiesAdded(Set<BookMarkEvent> events) {
 				reloadAndRefresh();
@@ -178,7 +232,7 @@ public class StatisticsExplorer extends ViewPart{
 		};
 		DynamicDAO.addEntityListener(IBookMark.class, fBookMarkListener);	
 		
-		fNewsListener = new NewsAdapter() {
+		fNewsListener = new AsyncNewsAdapter() {
 			@Override
 			public void entitiesAdded(Set<NewsEvent> events) {
 				reloadAndRefresh();
@@ -278,6 +332,10 @@ public class StatisticsExplorer extends ViewPart{
 	@Override
 	public void dispose() {
 		unregisterListeners();
+		if (fRefreshJob != null)
+			fRefreshJob.cancel();
+		if (fChartImage != null)
+			fChartImage.dispose();
 		super.dispose();
 	}
 	